@@ -0,0 +1,55 @@
+package org.example.expert.client;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출이 연속으로 실패하면 일정 시간 동안 호출을 차단합니다.
+ * 차단 시간이 지나면 한 번의 시험 호출(HALF_OPEN)만 허용하고, 그 결과에 따라 다시 열거나 닫습니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            // 시험 호출은 하나만 허용하고, 결과가 나올 때까지 다른 호출은 계속 차단합니다.
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -1,55 +1,301 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.SchedulingConfig;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 날씨 API 는 1년치 데이터를 한 번에 내려주고 하루에 한 번만 바뀌므로,
+ * 응답을 날짜(MM-dd) -> 날씨 Map 으로 변환하여 보관하고 자정 전에 미리 갱신합니다.
+ * 외부 API 호출은 연결을 재사용하는 HttpClient 로 비동기로 처리하며, 연속으로 실패하면 circuit breaker 로 차단합니다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+    private static final InputStream CLOSED_BODY = InputStream.nullInputStream();
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final HttpClient httpClient;
+    private final WeatherFeedParser weatherFeedParser;
+    private final URI weatherApiUri;
+    private final Duration cacheTtl;
+    private final Duration connectTimeout;
+    private final Duration fetchTimeout;
+    private final String fallbackWeather;
+    private final CircuitBreaker circuitBreaker;
+
+    private volatile WeatherSnapshot snapshot;
+    // 진행 중인 조회가 있으면 새로 요청하지 않고 같은 결과를 기다립니다.
+    private final AtomicReference<CompletableFuture<WeatherSnapshot>> inFlight = new AtomicReference<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    public WeatherClient(
+            ObjectMapper objectMapper,
+            @Value("${weather.api.url:https://f-api.github.io}") String weatherApiUrl,
+            @Value("${weather.cache.ttl:PT24H}") Duration cacheTtl,
+            @Value("${weather.fetch.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${weather.fetch.timeout:PT5S}") Duration fetchTimeout,
+            @Value("${weather.fallback:}") String fallbackWeather,
+            @Value("${weather.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:PT30S}") Duration openDuration
+    ) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        this.weatherFeedParser = new WeatherFeedParser(objectMapper.getFactory());
+        this.weatherApiUri = buildWeatherApiUri(weatherApiUrl);
+        this.cacheTtl = cacheTtl;
+        this.connectTimeout = connectTimeout;
+        this.fetchTimeout = fetchTimeout;
+        this.fallbackWeather = fallbackWeather;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        CompletableFuture<String> future = getTodayWeatherAsync();
+        try {
+            // 요청 timeout 이 지나면 future 가 실패로 끝나지만, 혹시 모를 경우를 대비해 여유를 두고 기다립니다.
+            return future.get(connectTimeout.plus(fetchTimeout).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 조회가 늦어져도 비동기 조회와 같이 이전 데이터나 대체값을 사용합니다.
+            return fallback(snapshot, getCurrentDate(), new ServerException("날씨 데이터 조회 시간이 초과되었습니다."));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("날씨 데이터 조회가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw toServerException(e.getCause());
+        }
+    }
+
+    public CompletableFuture<String> getTodayWeatherAsync() {
+        String today = getCurrentDate();
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        WeatherSnapshot current = snapshot;
+        if (current != null && current.isFresh(cacheTtl) && current.weatherByDate().containsKey(today)) {
+            hitCount.incrementAndGet();
+            return CompletableFuture.completedFuture(current.weatherByDate().get(today));
         }
-        // 위의 if 문이 진행되면 예외처리가 이루어져 코드 진행이 끊어지기 때문에 else 문이 필요하지 않습니다.
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+        missCount.incrementAndGet();
+
+        return refresh(current)
+                .thenApply(loaded -> {
+                    String weather = loaded.weatherByDate().get(today);
+                    if (weather == null) {
+                        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+                    }
+                    return weather;
+                })
+                .exceptionally(e -> fallback(current, today, e));
+    }
+
+    // 외부 API 를 호출하지 않고 이미 받아둔 데이터에서만 오늘 날씨를 찾습니다. 없으면 null 을 반환합니다.
+    public String findCachedTodayWeather() {
+        WeatherSnapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        String weather = current.weatherByDate().get(getCurrentDate());
+        if (weather != null) {
+            hitCount.incrementAndGet();
         }
+        return weather;
+    }
 
+    // 날짜가 바뀌기 전에 미리 갱신하여 자정 직후 요청들이 외부 API 를 기다리지 않도록 합니다.
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 55 23 * * *}", scheduler = SchedulingConfig.BACKGROUND_JOB_SCHEDULER)
+    public void refreshAhead() {
+        refresh(snapshot).whenComplete((loaded, e) -> {
+            if (e != null) {
+                log.warn("날씨 데이터 사전 갱신에 실패했습니다.", e);
+            }
+        });
+    }
 
-        String today = getCurrentDate();
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getFallbackCount() {
+        return fallbackCount.get();
+    }
+
+    // 동시에 여러 요청이 갱신을 시도해도 외부 API 는 한 번만 호출합니다.
+    private CompletableFuture<WeatherSnapshot> refresh(WeatherSnapshot observed) {
+        CompletableFuture<WeatherSnapshot> future = new CompletableFuture<>();
+        CompletableFuture<WeatherSnapshot> existing = inFlight.compareAndExchange(null, future);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return existing;
+        }
+
+        // 직전에 끝난 조회가 이미 새 데이터를 저장했다면 다시 호출하지 않습니다.
+        WeatherSnapshot latest = snapshot;
+        if (latest != null && latest != observed) {
+            coalescedCount.incrementAndGet();
+            inFlight.set(null);
+            future.complete(latest);
+            return future;
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            inFlight.set(null);
+            future.completeExceptionally(new ServerException("날씨 API 호출이 일시적으로 차단되었습니다."));
+            return future;
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(weatherApiUri)
+                .timeout(fetchTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        // 시간이 초과되면 본문 스트림을 닫아 읽고 있던 스레드와 연결을 돌려받기 위해 참조를 남겨둡니다.
+        AtomicReference<InputStream> openBody = new AtomicReference<>();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> {
+                    if (!openBody.compareAndSet(null, response.body())) {
+                        // 본문을 읽기 시작하기 전에 이미 시간이 초과되었습니다.
+                        closeQuietly(response.body());
+                        throw new CompletionException(new TimeoutException());
+                    }
+                    return new WeatherSnapshot(parseWeatherByDate(response), System.nanoTime());
+                })
+                // 요청 timeout 은 응답 헤더를 받을 때까지만 적용되므로, 본문을 읽는 시간까지 포함하여 제한합니다.
+                // 그렇지 않으면 본문이 멈췄을 때 조회가 끝나지 않아 이후 요청이 모두 이 조회를 기다리게 됩니다.
+                .orTimeout(connectTimeout.plus(fetchTimeout).toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((loaded, e) -> {
+                    if (e != null) {
+                        closeQuietly(openBody.getAndSet(CLOSED_BODY));
+                    }
+                    if (e == null) {
+                        snapshot = loaded;
+                        refreshCount.incrementAndGet();
+                        circuitBreaker.onSuccess();
+                    } else {
+                        refreshFailureCount.incrementAndGet();
+                        circuitBreaker.onFailure();
+                    }
+                    // 기다리던 요청들이 깨어나기 전에 비워두어야 다음 갱신이 새로 시작될 수 있습니다.
+                    inFlight.set(null);
+                    if (e == null) {
+                        future.complete(loaded);
+                    } else {
+                        future.completeExceptionally(toServerException(e));
+                    }
+                });
+        return future;
+    }
+
+    // 갱신에 실패해도 이전에 받아둔 데이터가 있으면 그대로 사용하고, 없으면 설정된 대체값을 사용합니다.
+    private String fallback(WeatherSnapshot current, String today, Throwable e) {
+        if (current != null && current.weatherByDate().containsKey(today)) {
+            log.warn("날씨 데이터 갱신에 실패하여 이전 데이터를 사용합니다. {}", e.getMessage());
+            fallbackCount.incrementAndGet();
+            return current.weatherByDate().get(today);
+        }
+        if (StringUtils.hasText(fallbackWeather)) {
+            log.warn("날씨 데이터를 가져오지 못해 대체값을 사용합니다. {}", e.getMessage());
+            fallbackCount.incrementAndGet();
+            return fallbackWeather;
+        }
+        throw toServerException(e);
+    }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+    // 응답 본문 전체를 메모리에 올리지 않고 스트림으로 읽으면서 바로 Map 을 만듭니다.
+    private Map<String, String> parseWeatherByDate(HttpResponse<InputStream> response) {
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != HttpStatus.OK.value()) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.statusCode());
             }
+
+            Map<String, String> weatherByDate = weatherFeedParser.parse(body);
+            if (weatherByDate.isEmpty()) {
+                throw new ServerException("날씨 데이터가 없습니다.");
+            }
+            return weatherByDate;
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터를 읽는데 실패했습니다.");
         }
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private void closeQuietly(InputStream body) {
+        if (body == null || body == CLOSED_BODY) {
+            return;
+        }
+        try {
+            body.close();
+        } catch (IOException e) {
+            log.debug("날씨 응답 본문을 닫지 못했습니다. {}", e.getMessage());
+        }
     }
 
-    private URI buildWeatherApiUri() {
+    private ServerException toServerException(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof ServerException serverException) {
+            return serverException;
+        }
+        if (cause instanceof TimeoutException) {
+            return new ServerException("날씨 데이터 조회 시간이 초과되었습니다.");
+        }
+        log.error("날씨 API 호출 중 오류가 발생했습니다.", cause);
+        return new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+    }
+
+    private URI buildWeatherApiUri(String weatherApiUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(weatherApiUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -57,7 +303,13 @@ public class WeatherClient {
     }
 
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now().format(DATE_FORMATTER);
+    }
+
+    private record WeatherSnapshot(Map<String, String> weatherByDate, long loadedAtNanos) {
+
+        boolean isFresh(Duration ttl) {
+            return System.nanoTime() - loadedAtNanos < ttl.toNanos();
+        }
     }
 }
@@ -0,0 +1,57 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 날씨 응답([{"date": "MM-dd", "weather": "..."}, ...])을 WeatherDto 배열로 바인딩하지 않고
+ * 토큰 단위로 읽으면서 바로 날짜 -> 날씨 Map 을 만듭니다.
+ */
+public class WeatherFeedParser {
+
+    private static final int DAYS_OF_YEAR = 366;
+
+    private final JsonFactory jsonFactory;
+
+    public WeatherFeedParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public Map<String, String> parse(InputStream inputStream) throws IOException {
+        Map<String, String> weatherByDate = new HashMap<>(DAYS_OF_YEAR * 4 / 3 + 1);
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String date = null;
+                String weather = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.currentName();
+                    parser.nextToken();
+                    if ("date".equals(fieldName)) {
+                        date = parser.getValueAsString();
+                    } else if ("weather".equals(fieldName)) {
+                        weather = parser.getValueAsString();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+
+                // 날씨가 없는 항목은 저장하지 않아 해당 날짜를 데이터가 없는 날짜로 처리합니다.
+                if (date != null && weather != null) {
+                    weatherByDate.put(date, weather);
+                }
+            }
+        }
+        return weatherByDate;
+    }
+}
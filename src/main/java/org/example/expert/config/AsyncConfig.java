@@ -0,0 +1,33 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String PASSWORD_UPGRADE_EXECUTOR = "passwordUpgradeExecutor";
+
+    // 대기 중인 작업마다 원본 비밀번호를 들고 있으므로 대기열 크기를 제한합니다.
+    // 재해시는 다음 로그인 때 다시 시도하면 되므로 대기열이 가득 차면 버립니다.
+    @Bean(PASSWORD_UPGRADE_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordUpgradeExecutor(
+            @Value("${password.upgrade.pool-size:1}") int poolSize,
+            @Value("${password.upgrade.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-upgrade-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("비밀번호 재해시 대기열이 가득 차 재해시를 건너뜁니다. queueCapacity: {}", queueCapacity));
+        return executor;
+    }
+}
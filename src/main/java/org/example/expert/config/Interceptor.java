@@ -1,10 +1,9 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -13,20 +12,19 @@ import java.time.LocalDateTime;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class Interceptor implements HandlerInterceptor {
 
-    private final JwtUtil jwtUtil;
-
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String bearerJwt = request.getHeader("Authorization");
-        String jwt = jwtUtil.substringToken(bearerJwt);
-        Claims claims = jwtUtil.extractClaims(jwt);
-        String userId = claims.getSubject();
-        UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+        // JwtFilter 에서 검증한 인증 정보를 사용하므로 토큰을 다시 파싱하지 않습니다.
+        AuthUser authUser = (AuthUser) request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+        if (authUser == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "인증 정보가 없습니다.");
+            return false;
+        }
+        Long userId = authUser.getId();
 
-        if (userRole.equals(UserRole.USER)) {
+        if (authUser.getUserRole().equals(UserRole.USER)) {
             response.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
             return false;
         }
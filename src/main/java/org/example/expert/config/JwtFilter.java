@@ -10,14 +10,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtTokenCache.VerifiedToken;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
+import java.util.Date;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    // 필터에서 한 번 검증한 인증 정보를 Interceptor, ArgumentResolver 에서 재사용하기 위한 request attribute 이름
+    public static final String AUTH_USER_ATTRIBUTE = AuthUser.class.getName();
+
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -47,16 +57,37 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+            // 이미 검증된 토큰이면 서명 검증과 claims 파싱을 생략합니다.
+            VerifiedToken verifiedToken = jwtTokenCache.get(jwt);
+            AuthUser authUser;
+            long issuedAt;
+            if (verifiedToken != null) {
+                authUser = verifiedToken.authUser();
+                issuedAt = verifiedToken.issuedAt();
+            } else {
+                // JWT 유효성 검사와 claims 추출
+                Claims claims = jwtUtil.extractClaims(jwt);
+                if (claims == null) {
+                    httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+                    return;
+                }
+
+                authUser = new AuthUser(
+                        Long.parseLong(claims.getSubject()),
+                        (String) claims.get("email"),
+                        UserRole.valueOf(String.valueOf(claims.get("userRole")))
+                );
+                issuedAt = JwtUtil.getIssuedAtMillis(claims);
+                jwtTokenCache.put(jwt, authUser, new Date(issuedAt), claims.getExpiration());
+            }
+
+            // 권한 변경, 비밀번호 변경 등으로 폐기된 토큰은 캐시 여부와 관계없이 거절합니다.
+            if (tokenRevocationService.isRevoked(authUser.getId(), issuedAt)) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
                 return;
             }
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
 
             chain.doFilter(request, response);
         } catch (SecurityException | MalformedJwtException e) {
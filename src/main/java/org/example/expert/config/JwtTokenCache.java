@@ -0,0 +1,102 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증이 끝난 JWT 의 인증 정보를 토큰 만료 시점까지 보관하는 LRU 캐시입니다.
+ * 같은 토큰으로 들어오는 요청은 서명 검증과 claims 파싱 없이 인증 정보를 재사용합니다.
+ */
+@Component
+public class JwtTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public JwtTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        // accessOrder = true 로 설정하여 가장 오래 사용되지 않은 토큰부터 제거합니다.
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > JwtTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    public VerifiedToken get(String token) {
+        String digest = digest(token);
+        VerifiedToken verifiedToken;
+        synchronized (cache) {
+            verifiedToken = cache.get(digest);
+            if (verifiedToken != null && verifiedToken.isExpired(System.currentTimeMillis())) {
+                cache.remove(digest);
+                verifiedToken = null;
+            }
+        }
+
+        if (verifiedToken == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return verifiedToken;
+    }
+
+    public void put(String token, AuthUser authUser, Date issuedAt, Date expiration) {
+        // 만료 시간이 없는 토큰은 언제까지 유효한지 알 수 없으므로 캐시하지 않습니다.
+        if (expiration == null || maxSize <= 0) {
+            return;
+        }
+        synchronized (cache) {
+            long issuedAtMillis = issuedAt == null ? 0L : issuedAt.getTime();
+            cache.put(digest(token), new VerifiedToken(authUser, issuedAtMillis, expiration.getTime()));
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    // 토큰 원문 대신 SHA-256 digest 를 key 로 사용하여 메모리에 토큰이 그대로 남지 않도록 합니다.
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException("SHA-256 알고리즘을 사용할 수 없습니다.");
+        }
+    }
+
+    public record VerifiedToken(AuthUser authUser, long issuedAt, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
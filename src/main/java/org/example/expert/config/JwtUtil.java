@@ -21,7 +21,9 @@ import java.util.Date;
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    public static final long TOKEN_TIME = 15 * 60 * 1000L; // 15분, 만료 후에는 refresh token 으로 재발급합니다.
+    // iat 는 초 단위로 저장되므로, 토큰 폐기 시각과 비교할 수 있도록 발급 시각을 밀리초 단위로 함께 저장합니다.
+    private static final String ISSUED_AT_MILLIS = "issuedAtMillis";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
@@ -44,6 +46,7 @@ public class JwtUtil {
                         .claim("userRole", userRole)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
+                        .claim(ISSUED_AT_MILLIS, date.getTime())
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
@@ -55,6 +58,15 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
+    // issuedAtMillis 가 없는 이전 토큰은 초 단위 iat 를 사용합니다.
+    public static long getIssuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        return claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime();
+    }
+
     public Claims extractClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(key)
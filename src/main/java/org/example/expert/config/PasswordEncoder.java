@@ -1,17 +1,173 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * bcrypt 연산은 CPU 를 많이 사용하므로 요청 스레드가 아닌 별도의 제한된 스레드 풀에서 실행합니다.
+ * 대기열이 가득 차면 요청을 기다리게 하지 않고 바로 503 으로 거절하고, timeout 안에 끝나지 않아도 503 으로 응답합니다.
+ */
+@Slf4j(topic = "PasswordEncoder")
 @Component
 public class PasswordEncoder {
 
+    // 새로 저장하는 비밀번호에 적용할 bcrypt cost 입니다. 기존 비밀번호는 로그인 시 이 값으로 재해시됩니다.
+    @Value("${password.encoder.cost:4}")
+    private int cost;
+    @Value("${password.encoder.pool-size:0}")
+    private int poolSize;
+    @Value("${password.encoder.queue-capacity:100}")
+    private int queueCapacity;
+    // 대기열에서 기다리는 시간을 포함합니다.
+    @Value("${password.encoder.timeout:PT5S}")
+    private Duration timeout;
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong hashCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        // pool-size 를 지정하지 않으면 CPU 코어 수만큼 스레드를 사용합니다.
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return execute(() -> BCrypt.withDefaults().hashToString(getTargetCost(), rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return execute(() -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    // 저장된 해시의 cost 가 목표 cost 보다 낮으면 재해시가 필요합니다.
+    public boolean needsUpgrade(String encodedPassword) {
+        return extractCost(encodedPassword) < getTargetCost();
+    }
+
+    public int getTargetCost() {
+        return Math.min(Math.max(cost, BCrypt.MIN_COST), BCrypt.MAX_COST);
+    }
+
+    public long getHashCount() {
+        return hashCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    public long getTotalQueueWaitNanos() {
+        return totalQueueWaitNanos.get();
+    }
+
+    public long getTotalHashNanos() {
+        return totalHashNanos.get();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    // bcrypt 해시 형식($2a$10$...)에서 cost 값을 추출합니다. 형식이 맞지 않으면 -1 을 반환합니다.
+    private int extractCost(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 0 || costStart + 2 > encodedPassword.length()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(costStart, costStart + 2));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                totalQueueWaitNanos.addAndGet(startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    totalHashNanos.addAndGet(System.nanoTime() - startedAt);
+                    hashCount.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            log.warn("bcrypt 작업 대기열이 가득 차 요청을 거절합니다. queueCapacity: {}", queueCapacity);
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있는 작업은 실행되지 않도록 취소합니다.
+            future.cancel(true);
+            timedOutCount.incrementAndGet();
+            log.warn("bcrypt 작업이 시간 안에 끝나지 않아 요청을 거절합니다. timeout: {}", timeout);
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 작업이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리 중 오류가 발생했습니다.");
+        }
     }
 }
@@ -1,9 +1,37 @@
 package org.example.expert.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // 같은 테이블의 insert 를 모아서 batch 로 보냅니다. MySQL 은 URL 에 rewriteBatchedStatements=true 를 함께 설정해야 합니다.
+    // id_generators 에는 마지막으로 할당한 id 가 저장되므로, pooled-lo 로 그 다음 id 부터 묶음을 할당받습니다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${persistence.jdbc.batch-size:100}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        };
+    }
+
+    // Flyway 도입 전에 Hibernate 가 만든 스키마는 V1 과 같으므로, 이력 테이블 없이 테이블이 있으면 V1 을 적용된 것으로 기록하고 V2 부터 실행합니다.
+    // 빈 DB 에는 적용되지 않으므로 새로 만드는 DB 는 V1 부터 실행됩니다. spring.flyway.* 로 설정하면 그 값을 사용합니다.
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer(
+            @Value("${spring.flyway.baseline-on-migrate:true}") boolean baselineOnMigrate,
+            @Value("${spring.flyway.baseline-version:1}") String baselineVersion
+    ) {
+        return configuration -> configuration
+                .baselineOnMigrate(baselineOnMigrate)
+                .baselineVersion(baselineVersion);
+    }
 }
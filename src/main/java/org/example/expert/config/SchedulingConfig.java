@@ -0,0 +1,35 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 외부 API 호출이나 전체 테이블 조회처럼 오래 걸릴 수 있는 작업은 이 scheduler 에서 실행합니다.
+    public static final String BACKGROUND_JOB_SCHEDULER = "backgroundJobScheduler";
+
+    // 기본 scheduler 입니다. 토큰 폐기 동기화처럼 짧고 지연되면 안 되는 작업만 실행합니다.
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:2}") int poolSize) {
+        return createScheduler(poolSize, "scheduling-");
+    }
+
+    // 오래 걸리는 작업이 기본 scheduler 의 스레드를 차지하여 토큰 폐기 동기화가 밀리지 않도록 따로 실행합니다.
+    @Bean(BACKGROUND_JOB_SCHEDULER)
+    public ThreadPoolTaskScheduler backgroundJobScheduler(@Value("${scheduling.background.pool-size:4}") int poolSize) {
+        return createScheduler(poolSize, "background-job-");
+    }
+
+    private ThreadPoolTaskScheduler createScheduler(int poolSize, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -9,10 +8,8 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import java.util.List;
 
 @Configuration
-@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    private final JwtUtil jwtUtil;
     // ArgumentResolver 등록
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -21,7 +18,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new Interceptor(jwtUtil))
-                .addPathPatterns("/admin/comments/{commentId}", "/admin/users/{userId}");
+        registry.addInterceptor(new Interceptor())
+                .addPathPatterns("/admin/comments/{commentId}", "/admin/users/{userId}", "/admin/todos/search-index/rebuild", "/admin/todos/export");
     }
 }
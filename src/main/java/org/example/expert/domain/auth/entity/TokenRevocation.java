@@ -0,0 +1,35 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 해당 유저에게 revokedAt 이전에 발급된 토큰은 모두 폐기된 것으로 처리합니다.
+ * expiresAt 이 지나면 폐기 대상 토큰이 모두 만료되므로 삭제해도 됩니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_revoked_at", columnList = "revoked_at")
+})
+public class TokenRevocation {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public TokenRevocation(Long userId, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -5,15 +5,20 @@ import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserPasswordUpgradeService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +27,8 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserPasswordUpgradeService userPasswordUpgradeService;
+    private final RefreshTokenService refreshTokenService;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -44,11 +51,14 @@ public class AuthService {
         User savedUser = userRepository.save(newUser);
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String refreshToken = refreshTokenService.issue(savedUser);
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
-    @Transactional(readOnly = true)
+    // refresh token 을 저장하므로 읽기 전용 트랜잭션이면 안 됩니다. (MySQL 은 READ ONLY 트랜잭션에서 INSERT 를 거부합니다.)
+    // 로그인 시도 횟수 제한은 트랜잭션을 시작하기 전에 AuthController 에서 확인합니다.
+    @Transactional
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -58,8 +68,39 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 저장된 비밀번호의 cost 가 목표 cost 보다 낮으면 요청과 별개로 재해시합니다.
+        if (passwordEncoder.needsUpgrade(user.getPassword())) {
+            upgradePasswordAfterCommit(user.getId(), user.getPassword(), signinRequest.getPassword());
+        }
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = refreshTokenService.issue(user);
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // 비밀번호 검증 없이 refresh token 조회 한 번과 서명만으로 access token 을 재발급합니다.
+    @Transactional
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        User user = refreshTokenService.consume(tokenRefreshRequest.getRefreshToken());
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = refreshTokenService.issue(user);
 
-        return new SigninResponse(bearerToken);
+        return new TokenRefreshResponse(bearerToken, refreshToken);
+    }
+
+    // 로그인 트랜잭션이 롤백되면 재해시할 필요가 없으므로 커밋된 뒤에 요청합니다.
+    private void upgradePasswordAfterCommit(long userId, String previousEncodedPassword, String rawPassword) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userPasswordUpgradeService.upgradePassword(userId, previousEncodedPassword, rawPassword);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userPasswordUpgradeService.upgradePassword(userId, previousEncodedPassword, rawPassword);
+            }
+        });
     }
 }
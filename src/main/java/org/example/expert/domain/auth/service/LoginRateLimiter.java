@@ -0,0 +1,179 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인 시도를 이메일, 클라이언트 IP 별 토큰 버킷으로 제한합니다.
+ * 로그인 트랜잭션을 시작하기 전에 호출하여, 거절할 요청이 DB 커넥션을 잡거나 bcrypt 검증을 하지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final int STRIPES = 64;
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final int emailCapacity;
+    private final int ipCapacity;
+    private final int maxKeys;
+
+    // 버킷 갱신은 key 의 hash 로 선택한 lock 으로만 보호하여 서로 다른 key 끼리는 경합하지 않습니다.
+    private final Object[] locks = new Object[STRIPES];
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final AtomicLong allowedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    public LoginRateLimiter(
+            @Value("${auth.signin.limit.email-per-minute:5}") int emailCapacity,
+            @Value("${auth.signin.limit.ip-per-minute:30}") int ipCapacity,
+            @Value("${auth.signin.limit.max-keys:100000}") int maxKeys
+    ) {
+        this.emailCapacity = emailCapacity;
+        this.ipCapacity = ipCapacity;
+        this.maxKeys = maxKeys;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public void checkSignin(String email, String clientIp) {
+        long now = System.nanoTime();
+        boolean allowed = tryAcquire("ip:" + clientIp, ipCapacity, now)
+                && tryAcquire("email:" + email.toLowerCase(Locale.ROOT), emailCapacity, now);
+
+        if (!allowed) {
+            rejectedCount.incrementAndGet();
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        allowedCount.incrementAndGet();
+    }
+
+    public long getAllowedCount() {
+        return allowedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    public int getTrackedKeyCount() {
+        return buckets.size();
+    }
+
+    private boolean tryAcquire(String key, int capacity, long now) {
+        // 새 key 가 들어올 때만 최대 개수를 확인하여 map 이 maxKeys 를 넘어 커지지 않도록 합니다.
+        if (buckets.size() >= maxKeys && !buckets.containsKey(key)) {
+            evictBuckets(now);
+        }
+
+        synchronized (lockFor(key)) {
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+            bucket.refill(capacity, now);
+            if (bucket.tokens < 1) {
+                return false;
+            }
+            bucket.tokens -= 1;
+            return true;
+        }
+    }
+
+    // 여러 요청이 동시에 정리하지 않도록 한 스레드만 정리하고, 나머지는 기다리지 않고 진행합니다.
+    // 매번 정리하지 않도록 maxKeys 의 90% 까지 줄입니다.
+    private void evictBuckets(long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // 토큰이 가득 찬 버킷은 1분 이상 사용되지 않은 것이므로 제거해도 제한 결과가 바뀌지 않습니다.
+            List<EvictionCandidate> candidates = new ArrayList<>();
+            for (String key : buckets.keySet()) {
+                synchronized (lockFor(key)) {
+                    Bucket bucket = buckets.get(key);
+                    if (bucket == null) {
+                        continue;
+                    }
+                    if (now - bucket.lastRefillNanos >= MINUTE_NANOS) {
+                        buckets.remove(key);
+                        evictedCount.incrementAndGet();
+                    } else {
+                        candidates.add(new EvictionCandidate(key, bucket.lastRefillNanos));
+                    }
+                }
+            }
+
+            // 그래도 많으면 가장 오래 사용되지 않은 버킷부터 제거합니다.
+            // 새 key 를 거절하면 key 를 계속 바꾸는 요청만으로 정상 사용자의 로그인까지 막히므로 제거하는 쪽을 택합니다.
+            int excess = buckets.size() - maxKeys * 9 / 10;
+            if (excess <= 0) {
+                return;
+            }
+            candidates.sort(Comparator.comparingLong(EvictionCandidate::lastRefillNanos));
+            int evicted = 0;
+            for (EvictionCandidate candidate : candidates) {
+                if (evicted >= excess) {
+                    break;
+                }
+                synchronized (lockFor(candidate.key())) {
+                    Bucket bucket = buckets.get(candidate.key());
+                    // 정리하는 동안 다시 사용된 버킷은 남겨 둡니다.
+                    if (bucket != null && bucket.lastRefillNanos == candidate.lastRefillNanos()) {
+                        buckets.remove(candidate.key());
+                        evicted++;
+                    }
+                }
+            }
+            evictedCount.addAndGet(evicted);
+            log.warn("로그인 제한 key 가 최대 개수를 넘어 오래된 버킷을 제거했습니다. evicted: {}, size: {}", evicted, buckets.size());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private Object lockFor(String key) {
+        return locks[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private record EvictionCandidate(String key, long lastRefillNanos) {
+    }
+
+    private static class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        // 1분에 capacity 만큼 토큰이 채워집니다.
+        void refill(int capacity, long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed <= 0) {
+                return;
+            }
+            tokens = Math.min(capacity, tokens + (double) elapsed * capacity / MINUTE_NANOS);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.SchedulingConfig;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * refresh token 은 임의의 문자열을 발급하고 DB 에는 SHA-256 해시만 저장합니다.
+ * 재발급할 때마다 기존 토큰을 삭제하고 새 토큰을 발급합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final long REFRESH_TOKEN_DAYS = 14;
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Transactional
+    public String issue(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(
+                hash(rawToken),
+                user,
+                LocalDateTime.now().plusDays(REFRESH_TOKEN_DAYS)
+        ));
+        return rawToken;
+    }
+
+    // 사용된 refresh token 은 삭제되므로 같은 토큰으로 두 번 재발급할 수 없습니다.
+    @Transactional
+    public User consume(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .orElseThrow(() -> new AuthException("유효하지 않은 refresh token 입니다."));
+
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            throw new AuthException("만료된 refresh token 입니다.");
+        }
+
+        // 동시에 같은 토큰으로 요청한 경우 먼저 삭제한 요청만 재발급받습니다.
+        if (refreshTokenRepository.deleteTokenById(refreshToken.getId()) == 0) {
+            throw new AuthException("이미 사용된 refresh token 입니다.");
+        }
+        return refreshToken.getUser();
+    }
+
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.prune-interval-ms:3600000}", scheduler = SchedulingConfig.BACKGROUND_JOB_SCHEDULER)
+    public void pruneExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 refresh token 을 정리했습니다. deleted: {}", deleted);
+    }
+
+    private String hash(String rawToken) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException("SHA-256 알고리즘을 사용할 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * DB 의 token_revocations 테이블을 기준으로 폐기된 토큰 정보를 메모리에 유지합니다.
+ * JwtFilter 는 요청마다 DB 를 조회하지 않고 Bloom filter 와 유저별 폐기 시각만으로 폐기 여부를 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final RefreshTokenService refreshTokenService;
+
+    // userId -> 폐기 시각(epoch millis). 이 시각 이전에 발급된 토큰은 사용할 수 없습니다.
+    private final Map<Long, Long> revokedAtByUserId = new ConcurrentHashMap<>();
+    private volatile UserIdBloomFilter bloomFilter = new UserIdBloomFilter();
+    private LocalDateTime lastSeenRevokedAt;
+
+    // 폐기 시각을 기록한 뒤 커밋되기까지의 지연과 서버 간 시계 차이보다 길게 잡아야 합니다.
+    @Value("${auth.revocation.refresh-overlap:PT1M}")
+    private Duration refreshOverlap;
+
+    public boolean isRevoked(Long userId, long issuedAtMillis) {
+        // 대부분의 유저는 폐기 이력이 없으므로 Bloom filter 에서 바로 걸러집니다.
+        if (!bloomFilter.mightContain(userId)) {
+            return false;
+        }
+        Long revokedAt = revokedAtByUserId.get(userId);
+        return revokedAt != null && issuedAtMillis <= revokedAt;
+    }
+
+    // 호출한 트랜잭션이 롤백되면 폐기 이력도 남지 않으므로, 메모리에는 커밋된 뒤에 반영합니다.
+    public void revokeAllTokens(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        TokenRevocation tokenRevocation = tokenRevocationRepository.save(
+                new TokenRevocation(userId, now, now.plusNanos(JwtUtil.TOKEN_TIME * 1_000_000))
+        );
+        // 폐기된 유저가 refresh token 으로 새 토큰을 받지 못하도록 함께 삭제합니다.
+        refreshTokenService.revokeAll(userId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAll(List.of(tokenRevocation));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyAll(List.of(tokenRevocation));
+            }
+        });
+    }
+
+    // 다른 서버에서 추가된 폐기 이력을 가져옵니다.
+    // IDENTITY id 는 커밋 순서와 다를 수 있어 id 기준으로 이어서 읽으면 늦게 커밋된 이력을 놓칠 수 있으므로,
+    // 마지막으로 본 폐기 시각보다 refreshOverlap 만큼 앞에서부터 다시 읽습니다. 같은 이력을 다시 반영해도 결과는 같습니다.
+    // DB 조회는 lock 밖에서 하고, 메모리 반영만 lock 안에서 합니다.
+    @Scheduled(fixedDelayString = "${auth.revocation.refresh-interval-ms:5000}")
+    public void refresh() {
+        LocalDateTime from;
+        synchronized (this) {
+            from = lastSeenRevokedAt == null ? null : lastSeenRevokedAt.minus(refreshOverlap);
+        }
+        List<TokenRevocation> revocations = from == null
+                ? tokenRevocationRepository.findAll()
+                : tokenRevocationRepository.findByRevokedAtGreaterThanEqual(from);
+        applyAll(revocations);
+    }
+
+    // 폐기 대상 토큰이 모두 만료된 이력은 DB 와 메모리에서 제거합니다.
+    @Scheduled(fixedDelayString = "${auth.revocation.prune-interval-ms:600000}")
+    public void prune() {
+        int deleted = tokenRevocationRepository.deleteExpired(LocalDateTime.now());
+
+        long expiredBefore = System.currentTimeMillis() - JwtUtil.TOKEN_TIME;
+        synchronized (this) {
+            revokedAtByUserId.values().removeIf(revokedAt -> revokedAt < expiredBefore);
+
+            // Bloom filter 는 항목을 지울 수 없으므로 남은 유저로 다시 만듭니다.
+            UserIdBloomFilter rebuilt = new UserIdBloomFilter();
+            revokedAtByUserId.keySet().forEach(rebuilt::add);
+            bloomFilter = rebuilt;
+        }
+
+        log.info("만료된 토큰 폐기 이력을 정리했습니다. deleted: {}, remaining: {}", deleted, revokedAtByUserId.size());
+    }
+
+    private synchronized void applyAll(List<TokenRevocation> revocations) {
+        for (TokenRevocation revocation : revocations) {
+            long revokedAt = toEpochMillis(revocation.getRevokedAt());
+            bloomFilter.add(revocation.getUserId());
+            revokedAtByUserId.merge(revocation.getUserId(), revokedAt, Math::max);
+            if (lastSeenRevokedAt == null || revocation.getRevokedAt().isAfter(lastSeenRevokedAt)) {
+                lastSeenRevokedAt = revocation.getRevokedAt();
+            }
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.toEpochMilli();
+    }
+
+    private static class UserIdBloomFilter {
+
+        private static final int BITS = 1 << 16;
+        private static final int HASHES = 3;
+
+        private final AtomicLongArray words = new AtomicLongArray(BITS / Long.SIZE);
+
+        void add(long userId) {
+            long hash = mix(userId);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = index(hash, i);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                words.getAndUpdate(word, value -> value | mask);
+            }
+        }
+
+        boolean mightContain(long userId) {
+            long hash = mix(userId);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = index(hash, i);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 하나의 64bit hash 를 상위/하위 32bit 로 나누어 double hashing 으로 k 개의 위치를 만듭니다.
+        private int index(long hash, int i) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            return ((h1 + i * h2) & Integer.MAX_VALUE) % BITS;
+        }
+
+        private long mix(long value) {
+            value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+            value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            return value ^ (value >>> 33);
+        }
+    }
+}
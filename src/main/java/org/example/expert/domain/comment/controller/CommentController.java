@@ -8,10 +8,13 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,8 +31,13 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    // 클라이언트가 가진 버전과 같으면 응답을 만들지 않고 304 를 반환합니다.
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        Optional<TodoVersion> version = commentService.getCommentsVersion(todoId);
+        if (version.isPresent() && webRequest.checkNotModified(version.get().eTag(), version.get().lastModifiedMillis())) {
+            return null;
+        }
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
 }
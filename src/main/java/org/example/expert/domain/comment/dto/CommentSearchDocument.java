@@ -0,0 +1,5 @@
+package org.example.expert.domain.comment.dto;
+
+// 검색 색인을 다시 만들 때 댓글에서 읽어오는 값입니다.
+public record CommentSearchDocument(Long id, Long todoId, String contents) {
+}
@@ -10,10 +10,15 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_todo_id", columnList = "todo_id")
+})
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "last_id", pkColumnValue = "comments", allocationSize = 100)
     private Long id;
     private String contents;
 
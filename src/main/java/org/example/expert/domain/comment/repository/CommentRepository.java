@@ -1,14 +1,36 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.CommentSearchDocument;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 엔티티를 영속성 컨텍스트에 올리지 않고 응답에 필요한 컬럼만 바로 DTO 로 조회합니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId")
+    List<CommentResponse> findCommentResponsesByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<CommentResponse> findCommentResponsesByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteCommentById(@Param("commentId") Long commentId);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentSearchDocument(c.id, c.todo.id, c.contents) " +
+            "FROM Comment c WHERE c.id > :lastId ORDER BY c.id")
+    List<CommentSearchDocument> findSearchDocuments(@Param("lastId") Long lastId, Limit limit);
 }
@@ -2,17 +2,33 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoResponseCache todoResponseCache;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        Optional<Long> todoId = commentRepository.findTodoIdById(commentId);
+        // 동시에 같은 댓글을 삭제해도 실제로 삭제한 요청만 댓글 수를 줄입니다.
+        if (todoId.isEmpty() || commentRepository.deleteCommentById(commentId) == 0) {
+            return;
+        }
+        todoRepository.addCommentCount(todoId.get(), -1, LocalDateTime.now());
+        todoResponseCache.evictAfterCommit(todoId.get());
+        todoSearchIndex.removeComment(commentId);
     }
 }
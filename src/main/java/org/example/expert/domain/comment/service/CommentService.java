@@ -6,17 +6,23 @@ import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +30,9 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoResponseCache todoResponseCache;
+    private final SingleFlight<Long, List<CommentResponse>> commentLoads = new SingleFlight<>();
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -38,6 +47,9 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todo.getId(), 1, LocalDateTime.now());
+        todoResponseCache.evictAfterCommit(todo.getId());
+        todoSearchIndex.indexComment(savedComment.getId(), todo.getId(), savedComment.getContents());
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -46,20 +58,14 @@ public class CommentService {
         );
     }
 
-    @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    public Optional<TodoVersion> getCommentsVersion(long todoId) {
+        return todoRepository.findVersionById(todoId);
+    }
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
-        }
-        return dtoList;
+    // 같은 할일의 댓글을 동시에 조회하면 한 번만 조회하고 결과를 함께 사용합니다.
+    // 기다리는 요청이 커넥션을 잡고 있지 않도록 트랜잭션은 시작하지 않습니다.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<CommentResponse> getComments(long todoId) {
+        return commentLoads.execute(todoId, () -> commentRepository.findCommentResponsesByTodoId(todoId));
     }
 }
@@ -0,0 +1,40 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * PageImpl 을 그대로 직렬화하지 않고 필요한 값만 내려주는 목록 응답입니다.
+ * slice 모드에서는 전체 개수를 세지 않으므로 totalElements, totalPages 가 null 입니다.
+ */
+@Getter
+public class PageResponse<T> {
+
+    private final List<T> content;
+    // 1부터 시작하는 페이지 번호입니다.
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    private final Long totalElements;
+    private final Integer totalPages;
+
+    private PageResponse(List<T> content, int page, int size, boolean hasNext, Long totalElements, Integer totalPages) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice) {
+        return new PageResponse<>(slice.getContent(), slice.getNumber() + 1, slice.getSize(), slice.hasNext(), null, null);
+    }
+
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice, long totalElements) {
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) totalElements / slice.getSize());
+        return new PageResponse<>(slice.getContent(), slice.getNumber() + 1, slice.getSize(), slice.hasNext(), totalElements, totalPages);
+    }
+}
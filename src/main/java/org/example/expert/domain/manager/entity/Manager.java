@@ -9,10 +9,16 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers", indexes = {
+        @Index(name = "idx_managers_todo_id", columnList = "todo_id"),
+        @Index(name = "idx_managers_user_id", columnList = "user_id")
+})
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "manager_id_generator")
+    @TableGenerator(name = "manager_id_generator", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "last_id", pkColumnValue = "managers", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
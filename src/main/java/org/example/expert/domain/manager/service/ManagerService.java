@@ -8,8 +8,10 @@ import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoResponseCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -17,8 +19,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +30,7 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final TodoResponseCache todoResponseCache;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -48,6 +52,8 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.addManagerCount(todo.getId(), 1, LocalDateTime.now());
+        todoResponseCache.evictAfterCommit(todo.getId());
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -56,21 +62,18 @@ public class ManagerService {
     }
 
     @Transactional(readOnly = true)
-    public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+    public Optional<TodoVersion> getManagersVersion(long todoId) {
+        return todoRepository.findVersionById(todoId);
+    }
 
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+    @Transactional(readOnly = true)
+    public List<ManagerResponse> getManagers(long todoId) {
+        // 할일을 만든 유저가 담당자로 등록되므로, 담당자가 없을 때만 할일이 있는지 확인합니다.
+        List<ManagerResponse> managers = managerRepository.findManagerResponsesByTodoId(todoId);
+        if (managers.isEmpty() && !todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
         }
-        return dtoList;
+        return managers;
     }
 
     @Transactional
@@ -93,5 +96,7 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todo.getId(), -1, LocalDateTime.now());
+        todoResponseCache.evictAfterCommit(todo.getId());
     }
 }
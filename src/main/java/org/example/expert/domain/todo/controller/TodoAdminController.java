@@ -0,0 +1,95 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoExportService todoExportService;
+
+    @PostMapping("/admin/todos/search-index/rebuild")
+    public ResponseEntity<TodoSearchIndex.RebuildResult> rebuildSearchIndex() {
+        return ResponseEntity.ok(todoSearchIndex.rebuild());
+    }
+
+    // 응답을 모아두지 않고 조회하는 대로 바로 씁니다. 클라이언트가 gzip 을 허용하면 압축해서 보냅니다.
+    @GetMapping("/admin/todos/export")
+    public void exportTodos(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        // 같은 URL 이라도 Accept-Encoding 에 따라 응답이 달라지므로 캐시가 구분하도록 알립니다.
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            GZIPOutputStream outputStream = new GZIPOutputStream(response.getOutputStream(), 64 * 1024);
+            todoExportService.export(outputStream);
+            outputStream.finish();
+        } else {
+            OutputStream outputStream = response.getOutputStream();
+            todoExportService.export(outputStream);
+        }
+        response.flushBuffer();
+    }
+
+    // "gzip;q=0" 처럼 q 가 0 이면 허용하지 않은 것입니다. gzip 이 없으면 "*" 의 q 를 따릅니다.
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = parseQuality(parts);
+            if ("gzip".equals(name) || "x-gzip".equals(name)) {
+                gzipQuality = quality;
+            } else if ("*".equals(name)) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    // q 가 없으면 1 이고, 형식이 잘못되었으면 허용하지 않은 것으로 봅니다.
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.startsWith("q=") || parameter.startsWith("Q="))) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -4,13 +4,23 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.VersionedTodoResponse;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,16 +36,66 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
+    // 조건은 cursor 방식에서만 사용할 수 있으므로, 조건을 무시한 결과를 내려주지 않도록 받아서 거절합니다.
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<PageResponse<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, slice, TodoFilter.of(weather, from, to)));
+    }
+
+    // cursor 파라미터가 있으면 cursor 방식으로 조회합니다. 첫 페이지는 빈 값(cursor=)으로 요청합니다.
+    // 날씨, 수정일(from ~ to, yyyy-MM-dd) 조건은 cursor 방식에서만 사용할 수 있습니다.
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, TodoFilter.of(weather, from, to)));
+    }
+
+    @GetMapping("/todos/search")
+    public ResponseEntity<TodoCursorResponse> searchTodos(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.searchTodos(q, cursor, size));
+    }
+
+    // 할일 화면에 필요한 할일, 댓글, 담당자를 한 번에 조회합니다.
+    @GetMapping("/todos/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(
+            @PathVariable long todoId,
+            @RequestParam(required = false) Integer commentLimit
+    ) {
+        return ResponseEntity.ok(todoService.getTodoDetail(todoId, commentLimit));
     }
 
+    // 클라이언트가 가진 버전과 같으면 본문 없이 304 를 반환합니다.
+    // 버전은 캐시된 응답과 함께 보관된 값을 사용하므로 본문과 ETag 가 항상 같은 시점의 값입니다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        VersionedTodoResponse todo = todoService.getVersionedTodo(todoId);
+        if (webRequest.checkNotModified(todo.version().eTag(), todo.version().lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(todo.todo());
     }
 }
@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.dto;
+
+// 할일에 저장된 댓글, 담당자 수와 실제로 센 수입니다.
+public record TodoCounts(Long todoId, long commentCount, long actualCommentCount, long managerCount, long actualManagerCount) {
+
+    public boolean drifted() {
+        return commentCount != actualCommentCount || managerCount != actualManagerCount;
+    }
+}
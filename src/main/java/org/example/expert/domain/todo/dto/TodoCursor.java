@@ -0,0 +1,35 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 할일 목록의 다음 페이지 위치(마지막으로 내려준 할일의 modifiedAt, id)입니다.
+ * 클라이언트에는 내부 값을 알 수 없도록 Base64 로 인코딩한 문자열로 전달합니다.
+ */
+public record TodoCursor(LocalDateTime modifiedAt, long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String value = modifiedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = value.lastIndexOf(DELIMITER);
+            return new TodoCursor(
+                    LocalDateTime.parse(value.substring(0, delimiterIndex)),
+                    Long.parseLong(value.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 할일 목록 조회 조건입니다. 값이 null 인 조건은 적용하지 않습니다.
+ * 수정일 범위는 from 00:00 부터 to 다음 날 00:00 전까지입니다.
+ */
+public record TodoFilter(String weather, LocalDateTime modifiedFrom, LocalDateTime modifiedBefore) {
+
+    public static final TodoFilter NONE = new TodoFilter(null, null, null);
+
+    public static TodoFilter of(String weather, LocalDate from, LocalDate to) {
+        return new TodoFilter(
+                weather,
+                from == null ? null : from.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay()
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과의 다음 페이지 위치(마지막으로 내려준 할일의 점수, id)와 첫 페이지에서 사용한 검색어별 idf 입니다.
+ * 검색 결과는 점수 내림차순, 같은 점수는 id 내림차순으로 정렬됩니다.
+ * idf 는 할일이 추가/삭제될 때마다 바뀌므로, 다음 페이지도 첫 페이지의 idf 로 점수를 계산해야 순서가 유지됩니다.
+ */
+public record TodoSearchCursor(double score, long id, List<Double> idfs) {
+
+    private static final String DELIMITER = "|";
+    private static final String IDF_DELIMITER = ",";
+
+    public String encode() {
+        String value = score + DELIMITER + id + DELIMITER
+                + idfs.stream().map(String::valueOf).collect(Collectors.joining(IDF_DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoSearchCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new InvalidRequestException("잘못된 cursor 입니다.");
+            }
+            List<Double> idfs = parts[2].isEmpty()
+                    ? List.of()
+                    : Arrays.stream(parts[2].split(IDF_DELIMITER)).map(Double::valueOf).toList();
+            return new TodoSearchCursor(Double.parseDouble(parts[0]), Long.parseLong(parts[1]), idfs);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+    }
+
+    // 정렬 순서상 이 cursor 보다 뒤에 있는 결과인지 확인합니다.
+    public boolean precedes(double otherScore, long otherId) {
+        return otherScore < score || (otherScore == score && otherId < id);
+    }
+}
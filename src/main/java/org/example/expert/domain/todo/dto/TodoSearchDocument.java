@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.dto;
+
+// 검색 색인을 다시 만들 때 할일에서 읽어오는 값입니다.
+public record TodoSearchDocument(Long id, String title, String contents) {
+}
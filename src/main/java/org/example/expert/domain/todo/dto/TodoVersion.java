@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 할일과 그 댓글, 담당자의 변경 여부를 판단하기 위한 버전 정보입니다.
+ * 할일 자체의 수정은 modifiedAt, 댓글/담당자/날씨 변경은 changeCount 와 changedAt 에 반영됩니다.
+ */
+public record TodoVersion(Long todoId, LocalDateTime modifiedAt, long changeCount, LocalDateTime changedAt) {
+
+    // 응답 본문이 아닌 버전으로 만든 값이므로 weak ETag 로 내려줍니다.
+    public String eTag() {
+        return "W/\"" + todoId + "-" + changeCount + "-" + toEpochMillis(modifiedAt) + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        long modified = toEpochMillis(modifiedAt);
+        return changedAt == null ? modified : Math.max(modified, toEpochMillis(changedAt));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 할일 응답과 그 응답을 만든 시점의 버전입니다.
+ * 본문과 ETag 가 서로 다른 시점의 값이 되지 않도록 한 번에 조회하여 함께 캐시합니다.
+ */
+public record VersionedTodoResponse(TodoResponse todo, TodoVersion version) {
+
+    // JPQL 생성자 표현식으로 응답과 버전을 한 번에 조회할 때 사용합니다.
+    public VersionedTodoResponse(Long id, String title, String contents, String weather, Long userId, String email,
+                                 long commentCount, long managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                                 long changeCount, LocalDateTime changedAt) {
+        this(new TodoResponse(id, title, contents, weather, userId, email, commentCount, managerCount, createdAt, modifiedAt),
+                new TodoVersion(id, modifiedAt, changeCount, changedAt));
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchSaveRequest {
+
+    // 항목별 검증은 서비스에서 하여, 일부 항목이 잘못되어도 나머지는 저장합니다.
+    @NotEmpty
+    private List<TodoSaveRequest> todos;
+}
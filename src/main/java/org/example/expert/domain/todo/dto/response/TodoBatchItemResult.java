@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBatchItemResult {
+
+    // 요청 목록에서의 위치(0부터 시작)입니다.
+    private final int index;
+    private final boolean saved;
+    private final Long id;
+    private final String error;
+
+    private TodoBatchItemResult(int index, boolean saved, Long id, String error) {
+        this.index = index;
+        this.saved = saved;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static TodoBatchItemResult saved(int index, Long id) {
+        return new TodoBatchItemResult(index, true, id, null);
+    }
+
+    public static TodoBatchItemResult failed(int index, String error) {
+        return new TodoBatchItemResult(index, false, null, error);
+    }
+}
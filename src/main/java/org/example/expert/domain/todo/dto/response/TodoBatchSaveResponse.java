@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchSaveResponse {
+
+    private final int savedCount;
+    private final int failedCount;
+    // 저장된 할일은 모두 같은 날씨를 사용합니다.
+    private final String weather;
+    private final boolean weatherPending;
+    private final List<TodoBatchItemResult> results;
+
+    public TodoBatchSaveResponse(String weather, boolean weatherPending, List<TodoBatchItemResult> results) {
+        this.savedCount = (int) results.stream().filter(TodoBatchItemResult::isSaved).count();
+        this.failedCount = results.size() - savedCount;
+        this.weather = weather;
+        this.weatherPending = weatherPending;
+        this.results = results;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoDetailResponse {
+
+    private final TodoResponse todo;
+    private final List<CommentResponse> comments;
+    // true 이면 commentLimit 보다 댓글이 많아 일부만 포함되었으며, 나머지는 댓글 목록 API 로 조회합니다.
+    private final boolean hasMoreComments;
+    private final List<ManagerResponse> managers;
+
+    public TodoDetailResponse(TodoResponse todo, List<CommentResponse> comments, boolean hasMoreComments, List<ManagerResponse> managers) {
+        this.todo = todo;
+        this.comments = comments;
+        this.hasMoreComments = hasMoreComments;
+        this.managers = managers;
+    }
+}
@@ -11,12 +11,15 @@ public class TodoSaveResponse {
     private final String contents;
     private final String weather;
     private final UserResponse user;
+    // true 이면 날씨는 백그라운드에서 채워지며 이후 조회 시 확인할 수 있습니다.
+    private final boolean weatherPending;
 
-    public TodoSaveResponse(Long id, String title, String contents, String weather, UserResponse user) {
+    public TodoSaveResponse(Long id, String title, String contents, String weather, UserResponse user, boolean weatherPending) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
         this.user = user;
+        this.weatherPending = weatherPending;
     }
 }
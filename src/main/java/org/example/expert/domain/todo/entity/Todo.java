@@ -8,21 +8,40 @@ import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC"),
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modified_at DESC, id DESC")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 마다 id 를 받아와야 해서 batch insert 가 되지 않으므로 id_generators 테이블에서 100개씩 할당받습니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id_generator")
+    @TableGenerator(name = "todo_id_generator", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "last_id", pkColumnValue = "todos", allocationSize = 100)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 댓글, 담당자, 날씨가 바뀔 때 repository 의 update 쿼리로만 증가시킵니다.
+    @Column(nullable = false)
+    private long changeCount;
+    private LocalDateTime changedAt;
+
+    // 목록에서 따로 세지 않도록 저장해두며, 댓글/담당자를 추가, 삭제할 때 repository 의 update 쿼리로 증감합니다.
+    @Column(nullable = false)
+    private long commentCount;
+    @Column(nullable = false)
+    private long managerCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -39,6 +58,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
     }
 
     public void update(String title, String contents) {
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TodoQueryRepository {
+
+    List<TodoResponse> findTodoResponses(TodoFilter filter, TodoCursor cursor, int limit);
+
+    Stream<TodoResponse> streamTodoResponses(int fetchSize);
+}
@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 조건이 있는 cursor 조회입니다. 주어진 조건만 WHERE 절에 넣어
+ * weather 는 (weather, modified_at, id), 나머지는 (modified_at, id) 인덱스를 따라 필요한 행만 읽도록 합니다.
+ * (":weather IS NULL OR ..." 처럼 쓰면 DB 가 인덱스를 사용하지 못할 수 있습니다.)
+ */
+@RequiredArgsConstructor
+public class TodoQueryRepositoryImpl implements TodoQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TodoResponse> findTodoResponses(TodoFilter filter, TodoCursor cursor, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (filter.weather() != null) {
+            conditions.add("t.weather = :weather");
+            parameters.put("weather", filter.weather());
+        }
+        if (filter.modifiedFrom() != null) {
+            conditions.add("t.modifiedAt >= :modifiedFrom");
+            parameters.put("modifiedFrom", filter.modifiedFrom());
+        }
+        if (filter.modifiedBefore() != null) {
+            conditions.add("t.modifiedAt < :modifiedBefore");
+            parameters.put("modifiedBefore", filter.modifiedBefore());
+        }
+        if (cursor != null) {
+            conditions.add("(t.modifiedAt < :cursorModifiedAt OR (t.modifiedAt = :cursorModifiedAt AND t.id < :cursorId))");
+            parameters.put("cursorModifiedAt", cursor.modifiedAt());
+            parameters.put("cursorId", cursor.id());
+        }
+
+        StringBuilder jpql = new StringBuilder(TodoRepository.TODO_RESPONSE);
+        if (!conditions.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", conditions)).append(' ');
+        }
+        jpql.append("ORDER BY t.modifiedAt DESC, t.id DESC");
+
+        TypedQuery<TodoResponse> query = entityManager.createQuery(jpql.toString(), TodoResponse.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * 전체 할일을 id 순으로 한 번의 쿼리로 읽으면서 fetchSize 개씩 가져옵니다.
+     * DTO 로 조회하므로 영속성 컨텍스트에 쌓이는 엔티티가 없어 건수와 상관없이 메모리 사용량이 일정합니다.
+     * 반환된 Stream 은 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @Override
+    public Stream<TodoResponse> streamTodoResponses(int fetchSize) {
+        return entityManager.createQuery(TodoRepository.TODO_RESPONSE + "ORDER BY t.id", TodoResponse.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
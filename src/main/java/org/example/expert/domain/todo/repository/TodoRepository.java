@@ -1,24 +1,91 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.TodoCounts;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.VersionedTodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoQueryRepository {
 
-    @EntityGraph(attributePaths = {"user"})
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 조회 API 는 엔티티 대신 응답에 필요한 컬럼만 바로 TodoResponse 로 조회합니다.
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.commentCount, t.managerCount, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    // Slice 로 조회하면 COUNT 쿼리 없이 size + 1 개만 읽어 다음 페이지 여부를 확인합니다.
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC")
+    Slice<TodoResponse> findTodoResponses(Pageable pageable);
+
+    // 단건 조회는 응답과 함께 버전도 조회하여 ETag 를 같은 시점의 값으로 만듭니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.VersionedTodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.commentCount, t.managerCount, t.createdAt, t.modifiedAt, " +
+            "t.changeCount, t.changedAt) " +
+            "FROM Todo t JOIN t.user u WHERE t.id = :todoId")
+    Optional<VersionedTodoResponse> findVersionedTodoResponseById(@Param("todoId") Long todoId);
+
+    @Query(TODO_RESPONSE + "WHERE t.id IN :todoIds")
+    List<TodoResponse> findTodoResponsesByIds(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoSearchDocument(t.id, t.title, t.contents) " +
+            "FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<TodoSearchDocument> findSearchDocuments(@Param("lastId") Long lastId, Limit limit);
 
     int countById(Long todoId);
+
+    // 조건부 조회는 응답을 만들기 전에 버전만 PK 로 조회하여 비교합니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoVersion(t.id, t.modifiedAt, t.changeCount, t.changedAt) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoVersion> findVersionById(@Param("todoId") Long todoId);
+
+    // 읽고 쓰는 사이에 다른 변경이 끼어들지 않도록 DB 에서 바로 증감하고, 변경 횟수도 함께 올립니다.
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta, " +
+            "t.changeCount = t.changeCount + 1, t.changedAt = :changedAt WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta, @Param("changedAt") LocalDateTime changedAt);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta, " +
+            "t.changeCount = t.changeCount + 1, t.changedAt = :changedAt WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta, @Param("changedAt") LocalDateTime changedAt);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoCounts(t.id, " +
+            "t.commentCount, (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount, (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id)) " +
+            "FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<TodoCounts> findCounts(@Param("lastId") Long lastId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id), " +
+            "t.changeCount = t.changeCount + 1, t.changedAt = :changedAt WHERE t.id IN :todoIds")
+    int recountCounts(@Param("todoIds") Collection<Long> todoIds, @Param("changedAt") LocalDateTime changedAt);
+
+    // 대기열에서 빠진 할일을 다시 채우기 위해 날씨가 비어 있는 할일의 id 만 조회합니다.
+    @Query("SELECT t.id FROM Todo t WHERE t.weather IS NULL AND t.createdAt >= :from AND t.createdAt < :to ORDER BY t.id")
+    List<Long> findPendingWeatherIds(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Limit limit);
+
+    // 날씨가 아직 채워지지 않은 할일만 갱신합니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.weather = :weather, t.changeCount = t.changeCount + 1, t.changedAt = :changedAt " +
+            "WHERE t.id IN :todoIds AND t.weather IS NULL")
+    int updatePendingWeather(@Param("weather") String weather, @Param("todoIds") Collection<Long> todoIds,
+                             @Param("changedAt") LocalDateTime changedAt);
 }
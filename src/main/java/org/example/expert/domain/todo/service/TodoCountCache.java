@@ -0,0 +1,49 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.SchedulingConfig;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 할일 목록 조회마다 COUNT(*) 를 실행하지 않도록 전체 할일 개수를 주기적으로 세어 보관합니다.
+ * 갱신 주기 사이에 추가된 할일은 반영되지 않으므로 근사값입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCountCache {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final TodoRepository todoRepository;
+
+    private final AtomicLong count = new AtomicLong(NOT_LOADED);
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    public long getCount() {
+        long cached = count.get();
+        if (cached != NOT_LOADED) {
+            return cached;
+        }
+        // 아직 한 번도 세지 않았다면 이번 요청에서 직접 셉니다.
+        return refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.refresh-interval-ms:60000}", scheduler = SchedulingConfig.BACKGROUND_JOB_SCHEDULER)
+    public long refresh() {
+        long loaded = todoRepository.count();
+        count.set(loaded);
+        refreshCount.incrementAndGet();
+        log.debug("할일 개수를 갱신했습니다. count: {}", loaded);
+        return loaded;
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.SchedulingConfig;
+import org.example.expert.domain.todo.dto.TodoCounts;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 할일에 저장된 댓글, 담당자 수를 실제 행 수와 비교하여 어긋난 할일만 다시 셉니다.
+ * 증감은 변경과 같은 트랜잭션에서 일어나지만, 직접 수정한 데이터나 장애로 생긴 차이를 주기적으로 바로잡습니다.
+ * 한 번에 오래 잠그지 않도록 id 순으로 batchSize 개씩 나누어 확인합니다.
+ */
+@Slf4j
+@Component
+public class TodoCounterReconciler {
+
+    private final TodoRepository todoRepository;
+    private final TodoResponseCache todoResponseCache;
+    private final int batchSize;
+
+    public TodoCounterReconciler(
+            TodoRepository todoRepository,
+            TodoResponseCache todoResponseCache,
+            @Value("${todo.counter.reconcile-batch-size:1000}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.todoResponseCache = todoResponseCache;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${todo.counter.reconcile-cron:0 30 4 * * *}", scheduler = SchedulingConfig.BACKGROUND_JOB_SCHEDULER)
+    public ReconcileResult reconcile() {
+        int scanned = 0;
+        int corrected = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<TodoCounts> batch = todoRepository.findCounts(lastId, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            scanned += batch.size();
+            lastId = batch.get(batch.size() - 1).todoId();
+
+            List<Long> driftedIds = batch.stream()
+                    .filter(TodoCounts::drifted)
+                    .map(TodoCounts::todoId)
+                    .toList();
+            if (!driftedIds.isEmpty()) {
+                corrected += todoRepository.recountCounts(driftedIds, LocalDateTime.now());
+                todoResponseCache.evictAll(driftedIds);
+            }
+        }
+
+        if (corrected > 0) {
+            log.warn("할일의 댓글, 담당자 수가 실제와 달라 다시 셌습니다. scanned: {}, corrected: {}", scanned, corrected);
+        } else {
+            log.info("할일의 댓글, 담당자 수를 확인했습니다. scanned: {}", scanned);
+        }
+        return new ReconcileResult(scanned, corrected);
+    }
+
+    public record ReconcileResult(int scannedCount, int correctedCount) {
+    }
+}
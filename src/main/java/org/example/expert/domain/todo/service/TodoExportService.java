@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 할일을 한 줄에 하나씩 JSON 으로 쓰는 NDJSON 형식으로 내보냅니다.
+ * 할일을 한 번의 쿼리로 읽으면서 바로 쓰므로, 할일 수와 상관없이 fetchSize 만큼만 메모리에 올라갑니다.
+ */
+@Slf4j
+@Service
+public class TodoExportService {
+
+    private final TodoRepository todoRepository;
+    private final ObjectWriter objectWriter;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.objectMapper = objectMapper;
+        // 한 줄마다 flush 하지 않고 fetchSize 개마다 한 번씩 내보냅니다.
+        this.objectWriter = objectMapper.writerFor(TodoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    // 내보낸 할일 수를 반환합니다. outputStream 은 닫지 않습니다.
+    @Transactional(readOnly = true)
+    public long export(OutputStream outputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        long count = 0;
+
+        try (Stream<TodoResponse> todos = todoRepository.streamTodoResponses(fetchSize);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 값 사이에 기본 구분자(공백) 대신 줄바꿈만 넣습니다.
+            generator.setRootValueSeparator(null);
+
+            Iterator<TodoResponse> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                objectWriter.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++count % fetchSize == 0) {
+                    generator.flush();
+                }
+            }
+        }
+
+        log.info("할일을 내보냈습니다. count: {}, elapsed: {}ms", count, (System.nanoTime() - startedAt) / 1_000_000);
+        return count;
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.VersionedTodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 할일 단건 조회 결과를 id 별로 보관하는 LRU 캐시입니다.
+ * 일부 인기 할일에 요청이 몰리므로 TTL 동안은 DB 를 조회하지 않고 캐시된 응답을 반환합니다.
+ * 조건부 조회도 캐시된 버전으로 판단할 수 있도록 응답과 버전을 함께 보관합니다.
+ * 할일 내용이 바뀌는 곳에서는 evict 를 호출해야 합니다.
+ */
+@Component
+public class TodoResponseCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, CachedTodo> cache;
+
+    // 조회 중에 무효화가 일어나면 조회한 값이 이미 오래된 값일 수 있으므로 캐시에 넣지 않기 위해 사용합니다.
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public TodoResponseCache(
+            @Value("${todo.cache.max-size:1000}") int maxSize,
+            @Value("${todo.cache.ttl:PT30S}") Duration ttl
+    ) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        // accessOrder = true 로 설정하여 가장 오래 조회되지 않은 할일부터 제거합니다.
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedTodo> eldest) {
+                return size() > TodoResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    public VersionedTodoResponse get(Long todoId, Function<Long, VersionedTodoResponse> loader) {
+        VersionedTodoResponse cached = find(todoId);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+        missCount.incrementAndGet();
+
+        long version = invalidationVersion.get();
+        VersionedTodoResponse loaded = loader.apply(todoId);
+        put(todoId, loaded, version);
+        return loaded;
+    }
+
+    public void evict(Long todoId) {
+        invalidationVersion.incrementAndGet();
+        synchronized (cache) {
+            if (cache.remove(todoId) != null) {
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    public void evictAll(Collection<Long> todoIds) {
+        invalidationVersion.incrementAndGet();
+        synchronized (cache) {
+            for (Long todoId : todoIds) {
+                if (cache.remove(todoId) != null) {
+                    evictionCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    // 트랜잭션 안에서 바로 지우면 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에 지웁니다.
+    public void evictAfterCommit(Long todoId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(todoId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(todoId);
+            }
+        });
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private VersionedTodoResponse find(Long todoId) {
+        synchronized (cache) {
+            CachedTodo cachedTodo = cache.get(todoId);
+            if (cachedTodo == null) {
+                return null;
+            }
+            if (System.nanoTime() - cachedTodo.loadedAtNanos() >= ttlNanos) {
+                cache.remove(todoId);
+                return null;
+            }
+            return cachedTodo.todoResponse();
+        }
+    }
+
+    private void put(Long todoId, VersionedTodoResponse todoResponse, long version) {
+        if (maxSize <= 0 || todoResponse == null) {
+            return;
+        }
+        synchronized (cache) {
+            if (invalidationVersion.get() != version) {
+                return;
+            }
+            cache.put(todoId, new CachedTodo(todoResponse, System.nanoTime()));
+        }
+    }
+
+    private record CachedTodo(VersionedTodoResponse todoResponse, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,356 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.SchedulingConfig;
+import org.example.expert.domain.comment.dto.CommentSearchDocument;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.TodoSearchCursor;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 할일 제목/내용과 댓글 내용을 단어 단위로 나누어 할일 id 를 찾는 역색인입니다.
+ * 할일과 댓글이 저장/삭제될 때 커밋 이후에 바로 반영하고, 필요하면 DB 에서 전체를 다시 만듭니다.
+ * 검색 결과는 단어가 나온 횟수(제목은 가중치를 더 줌)와 단어의 희소성(idf)으로 점수를 매깁니다.
+ * 시작 시 색인은 백그라운드에서 만들며, 처음 만들어지기 전까지는 검색 요청에 503 을 응답합니다.
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENTS_WEIGHT = 1;
+    private static final int COMMENT_WEIGHT = 1;
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final int rebuildBatchSize;
+    private final boolean rebuildOnStartup;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();
+    // 다시 만드는 동안 들어온 변경은 새 색인에도 반영해야 하므로 모아 둡니다.
+    private List<Consumer<InvertedIndex>> updatesDuringRebuild;
+    // 비어 있는 색인으로 검색하면 결과가 없는 것처럼 보이므로, 처음 만들어지기 전에는 검색을 거절합니다.
+    private volatile boolean ready;
+
+    public TodoSearchIndex(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            @Value("${todo.search.rebuild-batch-size:1000}") int rebuildBatchSize,
+            @Value("${todo.search.rebuild-on-startup:true}") boolean rebuildOnStartup
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.ready = !rebuildOnStartup;
+    }
+
+    public void indexTodo(Long todoId, String title, String contents) {
+        afterCommit(index -> index.putTodo(todoId, title, contents));
+    }
+
+    public void indexComment(Long commentId, Long todoId, String contents) {
+        afterCommit(index -> index.putComment(commentId, todoId, contents));
+    }
+
+    public void removeComment(Long commentId) {
+        afterCommit(index -> index.removeComment(commentId));
+    }
+
+    // cursor 이후의 결과를 점수 내림차순, 같은 점수는 id 내림차순으로 최대 limit 개 반환합니다.
+    // cursor 가 있으면 첫 페이지의 idf 로 점수를 계산하므로, 그 사이 다른 할일이 바뀌어도 결과가 빠지거나 반복되지 않습니다.
+    public SearchResult search(String query, TodoSearchCursor cursor, int limit) {
+        List<String> terms = List.copyOf(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), List.of());
+        }
+        if (cursor != null && cursor.idfs().size() != terms.size()) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+        if (!ready) {
+            throw new ServiceUnavailableException("검색 색인을 만드는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        lock.readLock().lock();
+        try {
+            return index.search(terms, cursor, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 할일과 댓글을 읽어야 하므로 시작 이벤트를 처리하는 스레드를 붙잡지 않도록 백그라운드에서 만듭니다.
+    @Async(SchedulingConfig.BACKGROUND_JOB_SCHEDULER)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("시작 시 검색 색인을 만들지 못했습니다. 색인을 다시 만들 때까지 검색할 수 없습니다.", e);
+        }
+    }
+
+    // DB 에서 새 색인을 만든 뒤 한 번에 교체합니다. 만드는 동안에도 기존 색인으로 검색할 수 있습니다.
+    public synchronized RebuildResult rebuild() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        InvertedIndex rebuilt = new InvertedIndex();
+        try {
+            long lastId = 0L;
+            List<TodoSearchDocument> todos;
+            do {
+                todos = todoRepository.findSearchDocuments(lastId, Limit.of(rebuildBatchSize));
+                for (TodoSearchDocument todo : todos) {
+                    rebuilt.putTodo(todo.id(), todo.title(), todo.contents());
+                    lastId = todo.id();
+                }
+            } while (todos.size() == rebuildBatchSize);
+
+            lastId = 0L;
+            List<CommentSearchDocument> comments;
+            do {
+                comments = commentRepository.findSearchDocuments(lastId, Limit.of(rebuildBatchSize));
+                for (CommentSearchDocument comment : comments) {
+                    rebuilt.putComment(comment.id(), comment.todoId(), comment.contents());
+                    lastId = comment.id();
+                }
+            } while (comments.size() == rebuildBatchSize);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                updatesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild.forEach(update -> update.accept(rebuilt));
+            updatesDuringRebuild = null;
+            index = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        RebuildResult result = new RebuildResult(
+                rebuilt.todoCount(), rebuilt.commentCount(), rebuilt.termCount(), (System.nanoTime() - startedAt) / 1_000_000
+        );
+        log.info("검색 색인을 다시 만들었습니다. {}", result);
+        return result;
+    }
+
+    // 검색어와 같은 규칙으로 나누기 위해 글자/숫자가 아닌 문자를 기준으로 나누고 소문자로 바꿉니다.
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letterOrDigit = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letterOrDigit && start < 0) {
+                start = i;
+            } else if (!letterOrDigit && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // 저장 트랜잭션이 롤백되면 색인에도 반영하지 않습니다.
+    private void afterCommit(Consumer<InvertedIndex> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(update);
+            }
+        });
+    }
+
+    private void apply(Consumer<InvertedIndex> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(index);
+            if (updatesDuringRebuild != null) {
+                updatesDuringRebuild.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public record SearchHit(Long todoId, double score) {
+    }
+
+    // idfs 는 다음 페이지 cursor 에 넣어 같은 기준으로 점수를 계산하는 데 사용합니다.
+    public record SearchResult(List<SearchHit> hits, List<Double> idfs) {
+    }
+
+    public record RebuildResult(int todoCount, int commentCount, int termCount, long elapsedMillis) {
+    }
+
+    // 외부에서 동기화하여 사용합니다.
+    private static class InvertedIndex {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        // 다시 색인하거나 삭제할 때 이전 단어를 빼기 위해 문서별로 어떤 posting 에 얼마를 더했는지 보관합니다.
+        private final Map<Long, DocumentTerms> todoTerms = new HashMap<>();
+        private final Map<Long, DocumentTerms> commentTerms = new HashMap<>();
+
+        void putTodo(Long todoId, String title, String contents) {
+            DocumentTerms previous = todoTerms.remove(todoId);
+            if (previous != null) {
+                removePostings(previous);
+            }
+            Map<String, Integer> terms = new HashMap<>();
+            countTerms(terms, title, TITLE_WEIGHT);
+            countTerms(terms, contents, CONTENTS_WEIGHT);
+            todoTerms.put(todoId, addPostings(todoId, terms));
+        }
+
+        void putComment(Long commentId, Long todoId, String contents) {
+            removeComment(commentId);
+            Map<String, Integer> terms = new HashMap<>();
+            countTerms(terms, contents, COMMENT_WEIGHT);
+            commentTerms.put(commentId, addPostings(todoId, terms));
+        }
+
+        void removeComment(Long commentId) {
+            DocumentTerms previous = commentTerms.remove(commentId);
+            if (previous != null) {
+                removePostings(previous);
+            }
+        }
+
+        SearchResult search(List<String> terms, TodoSearchCursor cursor, int limit) {
+            List<Double> idfs = cursor == null ? idfs(terms) : cursor.idfs();
+            Map<Long, Double> scores = new HashMap<>();
+            for (int i = 0; i < terms.size(); i++) {
+                PostingList postingList = postings.get(terms.get(i));
+                double idf = idfs.get(i);
+                // 첫 페이지에 없던 단어는 idf 가 0 이므로 점수에 더하지 않습니다.
+                if (postingList == null || idf == 0) {
+                    continue;
+                }
+                postingList.frequencies.forEach((todoId, frequency) -> scores.merge(todoId, frequency * idf, Double::sum));
+            }
+
+            List<SearchHit> hits = scores.entrySet().stream()
+                    .filter(entry -> cursor == null || cursor.precedes(entry.getValue(), entry.getKey()))
+                    .map(entry -> new SearchHit(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingDouble(SearchHit::score).reversed()
+                            .thenComparing(Comparator.comparingLong(SearchHit::todoId).reversed()))
+                    .limit(limit)
+                    .toList();
+            return new SearchResult(hits, idfs);
+        }
+
+        private List<Double> idfs(List<String> terms) {
+            int documentCount = Math.max(todoTerms.size(), 1);
+            List<Double> idfs = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                idfs.add(postingList == null ? 0.0 : Math.log(1.0 + (double) documentCount / postingList.frequencies.size()));
+            }
+            return idfs;
+        }
+
+        int todoCount() {
+            return todoTerms.size();
+        }
+
+        int commentCount() {
+            return commentTerms.size();
+        }
+
+        int termCount() {
+            return postings.size();
+        }
+
+        private void countTerms(Map<String, Integer> terms, String text, int weight) {
+            for (String token : tokenize(text)) {
+                terms.merge(token, weight, Integer::sum);
+            }
+        }
+
+        // 문서마다 단어 문자열을 따로 들고 있지 않도록 posting 을 직접 참조합니다.
+        private DocumentTerms addPostings(Long todoId, Map<String, Integer> terms) {
+            PostingList[] postingLists = new PostingList[terms.size()];
+            int[] frequencies = new int[terms.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+                PostingList postingList = postings.computeIfAbsent(entry.getKey(), PostingList::new);
+                postingList.frequencies.merge(todoId, entry.getValue(), Integer::sum);
+                postingLists[i] = postingList;
+                frequencies[i] = entry.getValue();
+                i++;
+            }
+            return new DocumentTerms(todoId, postingLists, frequencies);
+        }
+
+        private void removePostings(DocumentTerms documentTerms) {
+            for (int i = 0; i < documentTerms.postingLists().length; i++) {
+                PostingList postingList = documentTerms.postingLists()[i];
+                int frequency = documentTerms.frequencies()[i];
+                postingList.frequencies.computeIfPresent(documentTerms.todoId(),
+                        (id, current) -> current - frequency > 0 ? current - frequency : null);
+                if (postingList.frequencies.isEmpty()) {
+                    postings.remove(postingList.term, postingList);
+                }
+            }
+        }
+
+        private static class PostingList {
+
+            private final String term;
+            // 할일 id -> 가중치를 곱한 출현 횟수
+            private final Map<Long, Integer> frequencies = new HashMap<>();
+
+            PostingList(String term) {
+                this.term = term;
+            }
+        }
+
+        private record DocumentTerms(Long todoId, PostingList[] postingLists, int[] frequencies) {
+        }
+    }
+}
@@ -2,20 +2,47 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.TodoSearchCursor;
+import org.example.expert.domain.todo.dto.VersionedTodoResponse;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,12 +51,30 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TodoCountCache todoCountCache;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoSearchIndex todoSearchIndex;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final SingleFlight<Long, VersionedTodoResponse> todoLoads = new SingleFlight<>();
+
+    // true 이면 날씨를 기다리지 않고 저장한 뒤 백그라운드에서 채웁니다.
+    @Value("${weather.enrichment.async:false}")
+    private boolean asyncWeatherEnrichment;
+
+    @Value("${todo.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${todo.detail.max-comments:100}")
+    private int maxDetailComments;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = getTodayWeather();
+        boolean weatherPending = weather == null;
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -38,46 +83,174 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoSearchIndex.indexTodo(savedTodo.getId(), savedTodo.getTitle(), savedTodo.getContents());
+
+        if (weatherPending) {
+            todoWeatherEnricher.enqueue(savedTodo.getId());
+        }
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
                 weather,
-                new UserResponse(user.getId(), user.getEmail())
+                new UserResponse(user.getId(), user.getEmail()),
+                weatherPending
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
+    // 날씨는 요청당 한 번만 조회하고, 할일과 담당자 insert 는 JDBC batch 로 보냅니다.
+    // 제목이나 내용이 비어 있는 항목은 건너뛰고 결과에 실패로 표시합니다.
+    @Transactional
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        List<TodoSaveRequest> requests = todoBatchSaveRequest.getTodos();
+        if (requests.size() > maxBatchSize) {
+            throw new InvalidRequestException("할일은 한 번에 최대 " + maxBatchSize + "개까지 등록할 수 있습니다.");
+        }
+
+        User user = User.fromAuthUser(authUser);
+        String weather = getTodayWeather();
+        boolean weatherPending = weather == null;
+
+        TodoBatchItemResult[] results = new TodoBatchItemResult[requests.size()];
+        List<Integer> indexes = new ArrayList<>(requests.size());
+        List<Todo> newTodos = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TodoSaveRequest request = requests.get(i);
+            if (request == null || !StringUtils.hasText(request.getTitle()) || !StringUtils.hasText(request.getContents())) {
+                results[i] = TodoBatchItemResult.failed(i, "제목과 내용은 필수입니다.");
+                continue;
+            }
+            indexes.add(i);
+            newTodos.add(new Todo(request.getTitle(), request.getContents(), weather, user));
+        }
+
+        List<Todo> savedTodos = todoRepository.saveAll(newTodos);
+        for (int i = 0; i < savedTodos.size(); i++) {
+            Todo savedTodo = savedTodos.get(i);
+            results[indexes.get(i)] = TodoBatchItemResult.saved(indexes.get(i), savedTodo.getId());
+            todoSearchIndex.indexTodo(savedTodo.getId(), savedTodo.getTitle(), savedTodo.getContents());
+            if (weatherPending) {
+                todoWeatherEnricher.enqueue(savedTodo.getId());
+            }
+        }
+
+        return new TodoBatchSaveResponse(weather, weatherPending, Arrays.asList(results));
+    }
+
+    // slice 모드에서는 전체 개수 없이 다음 페이지 여부만 내려주고, 아니면 주기적으로 센 전체 개수를 함께 내려줍니다.
+    public PageResponse<TodoResponse> getTodos(int page, int size, boolean slice, TodoFilter filter) {
+        // 전체 개수는 조건 없이 캐시하므로 offset 방식에서는 조건을 적용할 수 없습니다.
+        if (!TodoFilter.NONE.equals(filter)) {
+            throw new InvalidRequestException("날씨, 수정일 조건은 cursor 방식에서만 사용할 수 있습니다. cursor 파라미터를 함께 보내주세요.");
+        }
+
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        Slice<TodoResponse> todos = todoRepository.findTodoResponses(pageable);
+
+        if (slice) {
+            return PageResponse.ofSlice(todos);
+        }
+        return PageResponse.ofSlice(todos, todoCountCache.getCount());
+    }
+
+    // cursor 방식 조회는 (modified_at, id) 인덱스를 따라 읽으므로 뒤 페이지도 첫 페이지와 비용이 같습니다.
+    // 조건이 있으면 다음 페이지를 요청할 때도 같은 조건을 함께 보내야 합니다.
+    public TodoCursorResponse getTodosByCursor(String cursor, int size, TodoFilter filter) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        TodoCursor todoCursor = StringUtils.hasText(cursor) ? TodoCursor.decode(cursor) : null;
+        // 다음 페이지가 있는지 확인하기 위해 하나 더 조회합니다.
+        List<TodoResponse> todos = todoRepository.findTodoResponses(filter, todoCursor, size + 1);
+
+        String nextCursor = null;
+        if (todos.size() > size) {
+            todos = todos.subList(0, size);
+            TodoResponse last = todos.get(size - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoCursorResponse(todos, nextCursor);
+    }
+
+    // 색인에서 순위대로 할일 id 를 찾은 뒤, 해당 할일들만 한 번에 조회합니다.
+    public TodoCursorResponse searchTodos(String query, String cursor, int size) {
+        if (!StringUtils.hasText(query)) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        TodoSearchCursor searchCursor = StringUtils.hasText(cursor) ? TodoSearchCursor.decode(cursor) : null;
+        TodoSearchIndex.SearchResult result = todoSearchIndex.search(query, searchCursor, size + 1);
+        List<TodoSearchIndex.SearchHit> hits = result.hits();
+
+        String nextCursor = null;
+        if (hits.size() > size) {
+            hits = hits.subList(0, size);
+            TodoSearchIndex.SearchHit last = hits.get(size - 1);
+            nextCursor = new TodoSearchCursor(last.score(), last.todoId(), result.idfs()).encode();
+        }
+        if (hits.isEmpty()) {
+            return new TodoCursorResponse(List.of(), null);
+        }
+
+        Map<Long, TodoResponse> todosById = todoRepository.findTodoResponsesByIds(
+                hits.stream().map(TodoSearchIndex.SearchHit::todoId).toList()
+        ).stream().collect(Collectors.toMap(TodoResponse::getId, Function.identity()));
+
+        // 색인에 남아 있지만 DB 에서 사라진 할일은 제외합니다.
+        List<TodoResponse> todos = hits.stream()
+                .map(hit -> todosById.get(hit.todoId()))
+                .filter(Objects::nonNull)
+                .toList();
+        return new TodoCursorResponse(todos, nextCursor);
     }
 
+    // 할일, 댓글, 담당자를 할일 수와 댓글 수에 상관없이 최대 세 번의 조회로 가져옵니다.
+    // 댓글은 오래된 순으로 commentLimit 개까지만 포함합니다.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public TodoDetailResponse getTodoDetail(long todoId, Integer commentLimit) {
+        int limit = commentLimit == null ? maxDetailComments : commentLimit;
+        if (limit < 0 || limit > maxDetailComments) {
+            throw new InvalidRequestException("commentLimit 은 0 이상 " + maxDetailComments + " 이하여야 합니다.");
+        }
+
+        TodoResponse todo = getTodo(todoId);
+
+        List<CommentResponse> comments = limit == 0
+                ? List.of()
+                : commentRepository.findCommentResponsesByTodoId(todoId, Limit.of(limit + 1));
+        boolean hasMoreComments = comments.size() > limit;
+        if (hasMoreComments) {
+            comments = comments.subList(0, limit);
+        }
+
+        List<ManagerResponse> managers = managerRepository.findManagerResponsesByTodoId(todoId);
+        return new TodoDetailResponse(todo, comments, hasMoreComments, managers);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        return getVersionedTodo(todoId).todo();
+    }
 
-        User user = todo.getUser();
+    // 캐시에 있으면 DB 를 조회하지 않으므로 트랜잭션도 시작하지 않습니다.
+    // 캐시에 없는 할일을 동시에 조회하면 한 번만 조회하고 결과를 함께 사용합니다.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public VersionedTodoResponse getVersionedTodo(long todoId) {
+        return todoResponseCache.get(todoId, id -> todoLoads.execute(id, () -> todoRepository.findVersionedTodoResponseById(id)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"))));
+    }
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+    // 비동기 모드에서는 이미 받아둔 날씨만 사용하고, 없으면 날씨 없이 저장합니다.
+    private String getTodayWeather() {
+        return asyncWeatherEnrichment
+                ? weatherClient.findCachedTodayWeather()
+                : weatherClient.getTodayWeather();
     }
 }
@@ -0,0 +1,186 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.SchedulingConfig;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날씨 없이 저장된 할일을 모아 두었다가 백그라운드에서 한 번에 날씨를 채웁니다.
+ * 외부 날씨 API 가 느려도 할일 저장 트랜잭션이 기다리지 않도록 하기 위함입니다.
+ * 대기열은 메모리에만 있으므로, 재시작이나 재시도 초과로 빠진 할일은 주기적으로 DB 에서 다시 찾아 채웁니다.
+ */
+@Slf4j
+@Component
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TodoResponseCache todoResponseCache;
+    private final BlockingQueue<PendingTodo> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration sweepDelay;
+
+    // 날씨 조회에 연속으로 실패하면 다음 시도까지 기다리는 시간을 두 배씩 늘립니다.
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long retryAtNanos;
+
+    private final AtomicLong enrichedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TodoResponseCache todoResponseCache,
+            @Value("${weather.enrichment.queue-capacity:10000}") int queueCapacity,
+            @Value("${weather.enrichment.batch-size:500}") int batchSize,
+            @Value("${weather.enrichment.max-attempts:5}") int maxAttempts,
+            @Value("${weather.enrichment.retry-backoff:PT2S}") Duration retryBackoff,
+            @Value("${weather.enrichment.max-retry-backoff:PT5M}") Duration maxRetryBackoff,
+            @Value("${weather.enrichment.sweep-delay:PT1M}") Duration sweepDelay
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.todoResponseCache = todoResponseCache;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.sweepDelay = sweepDelay;
+    }
+
+    // 저장 트랜잭션이 커밋된 뒤에 대기열에 넣어야 워커가 아직 커밋되지 않은 할일을 갱신하지 않습니다.
+    public void enqueue(Long todoId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(new PendingTodo(todoId, 0));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(new PendingTodo(todoId, 0));
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${weather.enrichment.interval-ms:1000}", scheduler = SchedulingConfig.BACKGROUND_JOB_SCHEDULER)
+    public void enrichPendingTodos() {
+        if (isBackingOff()) {
+            return;
+        }
+        List<PendingTodo> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            enrich(batch.stream().map(PendingTodo::todoId).toList());
+        } catch (RuntimeException e) {
+            Duration backoff = backOff();
+            log.warn("할일 날씨 정보를 채우지 못했습니다. {} 후에 다시 시도합니다. size: {}", backoff, batch.size(), e);
+            for (PendingTodo pendingTodo : batch) {
+                retry(pendingTodo);
+            }
+        }
+    }
+
+    // 날씨는 날짜별 값이므로 오늘 저장된 할일만 다시 채웁니다.
+    // 방금 저장되어 아직 대기열에 있는 할일과 겹치지 않도록 sweepDelay 이전에 저장된 할일만 찾습니다.
+    @Scheduled(fixedDelayString = "${weather.enrichment.sweep-interval-ms:300000}", scheduler = SchedulingConfig.BACKGROUND_JOB_SCHEDULER)
+    public void sweepPendingTodos() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = now.toLocalDate().atStartOfDay();
+        LocalDateTime to = now.minus(sweepDelay);
+        while (!isBackingOff()) {
+            List<Long> todoIds = todoRepository.findPendingWeatherIds(from, to, Limit.of(batchSize));
+            if (todoIds.isEmpty()) {
+                return;
+            }
+            try {
+                int updated = enrich(todoIds);
+                if (updated == 0 || todoIds.size() < batchSize) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                Duration backoff = backOff();
+                log.warn("날씨가 비어 있는 할일을 채우지 못했습니다. {} 후에 다시 시도합니다. size: {}", backoff, todoIds.size(), e);
+                return;
+            }
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public long getEnrichedCount() {
+        return enrichedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private int enrich(List<Long> todoIds) {
+        String weather = weatherClient.getTodayWeather();
+        int updated = todoRepository.updatePendingWeather(weather, todoIds, LocalDateTime.now());
+        consecutiveFailures.set(0);
+        enrichedCount.addAndGet(updated);
+        todoResponseCache.evictAll(todoIds);
+        return updated;
+    }
+
+    private boolean isBackingOff() {
+        return consecutiveFailures.get() > 0 && System.nanoTime() - retryAtNanos < 0;
+    }
+
+    private Duration backOff() {
+        int failures = consecutiveFailures.incrementAndGet();
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(failures - 1, 30));
+        if (backoff.compareTo(maxRetryBackoff) > 0) {
+            backoff = maxRetryBackoff;
+        }
+        retryAtNanos = System.nanoTime() + backoff.toNanos();
+        return backoff;
+    }
+
+    // 재시도 횟수를 넘긴 할일은 대기열에서 빼고, DB 를 주기적으로 확인하는 sweepPendingTodos 에서 다시 채웁니다.
+    private void retry(PendingTodo pendingTodo) {
+        if (pendingTodo.attempts() + 1 >= maxAttempts) {
+            droppedCount.incrementAndGet();
+            log.error("재시도 횟수를 초과하여 대기열에서 제외합니다. todoId: {}", pendingTodo.todoId());
+            return;
+        }
+        offer(new PendingTodo(pendingTodo.todoId(), pendingTodo.attempts() + 1));
+    }
+
+    private void offer(PendingTodo pendingTodo) {
+        if (!queue.offer(pendingTodo)) {
+            droppedCount.incrementAndGet();
+            log.error("날씨 대기열이 가득 차 날씨 정보를 채우지 않습니다. todoId: {}", pendingTodo.todoId());
+        }
+    }
+
+    private record PendingTodo(Long todoId, int attempts) {
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.AsyncConfig;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserPasswordUpgradeService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    // 로그인 응답을 기다리게 하지 않도록 재해시와 저장은 비동기로 처리합니다.
+    // 재해시 자체는 PasswordEncoder 의 제한된 스레드 풀에서 실행되므로 로그인 요청의 bcrypt 작업과 같은 한도를 사용합니다.
+    @Async(AsyncConfig.PASSWORD_UPGRADE_EXECUTOR)
+    public void upgradePassword(long userId, String previousEncodedPassword, String rawPassword) {
+        String upgradedPassword;
+        try {
+            upgradedPassword = passwordEncoder.encode(rawPassword);
+        } catch (ServiceUnavailableException e) {
+            // 재해시는 다음 로그인 때 다시 시도하면 되므로 요청이 많을 때는 건너뜁니다.
+            log.warn("비밀번호 재해시를 건너뜁니다. userId: {}", userId);
+            return;
+        }
+
+        // 그 사이 비밀번호가 변경되었다면 덮어쓰지 않습니다.
+        int updated = userRepository.updatePasswordIfUnchanged(userId, previousEncodedPassword, upgradedPassword);
+        if (updated == 0) {
+            log.info("비밀번호가 변경되어 재해시 결과를 저장하지 않습니다. userId: {}", userId);
+        }
+    }
+}
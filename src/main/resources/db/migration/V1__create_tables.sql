@@ -0,0 +1,62 @@
+-- Hibernate DDL 로 생성되던 기존 스키마입니다. 이미 운영 중인 DB 는 이 버전을 baseline 으로 지정합니다.
+CREATE TABLE users (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(255),
+    password    VARCHAR(255),
+    user_role   VARCHAR(255),
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE todos (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(255),
+    contents    VARCHAR(255),
+    weather     VARCHAR(255),
+    user_id     BIGINT       NOT NULL,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todos_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    contents    VARCHAR(255),
+    user_id     BIGINT       NOT NULL,
+    todo_id     BIGINT       NOT NULL,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
+
+CREATE TABLE managers (
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_managers_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_managers_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
+
+CREATE TABLE token_revocations (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    revoked_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    token_hash VARCHAR(255) NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,7 @@
+-- 댓글/담당자는 항상 todo_id 로 조회하고, 담당자는 user_id 로도 조회합니다.
+CREATE INDEX idx_comments_todo_id ON comments (todo_id);
+CREATE INDEX idx_managers_todo_id ON managers (todo_id);
+CREATE INDEX idx_managers_user_id ON managers (user_id);
+
+-- 할일 목록은 modified_at 내림차순으로 정렬하고, cursor 조회는 (modified_at, id) 로 이어서 읽습니다.
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at DESC, id DESC);
@@ -0,0 +1,2 @@
+-- 날씨 조건 목록 조회는 weather 가 같은 행만 modified_at 내림차순으로 이어서 읽습니다.
+CREATE INDEX idx_todos_weather_modified_at_id ON todos (weather, modified_at DESC, id DESC);
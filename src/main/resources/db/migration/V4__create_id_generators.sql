@@ -0,0 +1,11 @@
+-- 할일, 담당자, 댓글의 id 를 IDENTITY 대신 이 테이블에서 묶음 단위로 할당받아 insert 를 JDBC batch 로 보낼 수 있게 합니다.
+-- last_id 는 마지막으로 할당한 id 이며, 기존 데이터의 최대 id 에서 시작합니다.
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    last_id       BIGINT       NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generators (sequence_name, last_id) SELECT 'todos', COALESCE(MAX(id), 0) FROM todos;
+INSERT INTO id_generators (sequence_name, last_id) SELECT 'managers', COALESCE(MAX(id), 0) FROM managers;
+INSERT INTO id_generators (sequence_name, last_id) SELECT 'comments', COALESCE(MAX(id), 0) FROM comments;
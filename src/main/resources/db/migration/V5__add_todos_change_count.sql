@@ -0,0 +1,3 @@
+-- 댓글, 담당자, 날씨가 바뀔 때마다 증가하여 조건부 조회(ETag, Last-Modified)의 기준으로 사용합니다.
+ALTER TABLE todos ADD COLUMN change_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE todos ADD COLUMN changed_at DATETIME(6);
@@ -0,0 +1,7 @@
+-- 목록에서 할일마다 댓글, 담당자 수를 따로 세지 않도록 할일에 함께 저장합니다.
+ALTER TABLE todos ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE todos ADD COLUMN manager_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE todos SET
+    comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = todos.id),
+    manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = todos.id);
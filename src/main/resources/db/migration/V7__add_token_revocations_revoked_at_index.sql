@@ -0,0 +1,2 @@
+-- 폐기 이력은 id 대신 revoked_at 기준으로 최근 구간을 다시 읽어 가져옵니다.
+CREATE INDEX idx_token_revocations_revoked_at ON token_revocations (revoked_at);
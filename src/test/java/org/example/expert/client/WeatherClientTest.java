@@ -0,0 +1,227 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeatherClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int responseStatus = 200;
+    private volatile long responseDelayMillis = 0;
+    private volatile long bodyStallMillis = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        String body = "[{\"date\":\"01-01\",\"weather\":\"Snowy\"},{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]";
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            sleep(responseDelayMillis);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (responseStatus != 200) {
+                exchange.sendResponseHeaders(responseStatus, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes, 0, bytes.length / 2);
+                outputStream.flush();
+                sleep(bodyStallMillis);
+                outputStream.write(bytes, bytes.length / 2, bytes.length - bytes.length / 2);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private WeatherClient createClient(Duration ttl) {
+        return createClient(ttl, Duration.ofSeconds(5), "", 5, Duration.ofSeconds(30));
+    }
+
+    private WeatherClient createClient(Duration ttl, Duration timeout, String fallback, int failureThreshold, Duration openDuration) {
+        String url = "http://localhost:" + server.getAddress().getPort();
+        return new WeatherClient(Jackson2ObjectMapperBuilder.json().build(), url, ttl,
+                Duration.ofSeconds(1), timeout, fallback, failureThreshold, openDuration);
+    }
+
+    @Test
+    @DisplayName("같은 날 여러 번 조회해도 외부 API는 한 번만 호출하는지 테스트")
+    void getTodayWeatherCached() {
+        //given
+        WeatherClient weatherClient = createClient(Duration.ofHours(24));
+
+        //when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        //then
+        assertThat(first).isEqualTo("Sunny");
+        assertThat(second).isEqualTo("Sunny");
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(weatherClient.getHitCount()).isEqualTo(1);
+        assertThat(weatherClient.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 이전에 받아둔 날씨 데이터를 반환하는지 테스트")
+    void getTodayWeatherStaleOnFailure() {
+        //given
+        WeatherClient weatherClient = createClient(Duration.ZERO);
+        weatherClient.getTodayWeather();
+        responseStatus = 500;
+
+        //when
+        String weather = weatherClient.getTodayWeather();
+
+        //then
+        assertThat(weather).isEqualTo("Sunny");
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(weatherClient.getRefreshFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자정 전 사전 갱신 후에는 외부 API 호출 없이 조회되는지 테스트")
+    void refreshAhead() {
+        //given
+        WeatherClient weatherClient = createClient(Duration.ofHours(24));
+
+        //when
+        weatherClient.refreshAhead();
+        String weather = weatherClient.getTodayWeather();
+
+        //then
+        assertThat(weather).isEqualTo("Sunny");
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(weatherClient.getRefreshCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시가 비어 있을 때 동시에 조회해도 외부 API는 한 번만 호출하는지 테스트")
+    void getTodayWeatherSingleFlight() throws Exception {
+        //given
+        WeatherClient weatherClient = createClient(Duration.ofHours(24));
+        responseDelayMillis = 300;
+        int threads = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return weatherClient.getTodayWeather();
+            }));
+        }
+        start.countDown();
+
+        //then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("Sunny");
+        }
+        executor.shutdown();
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("외부 API 응답이 timeout보다 늦으면 대체값을 반환하는지 테스트")
+    void getTodayWeatherTimeoutFallback() {
+        //given
+        WeatherClient weatherClient = createClient(Duration.ofHours(24), Duration.ofMillis(200), "Unknown", 5, Duration.ofSeconds(30));
+        responseDelayMillis = 1000;
+
+        //when
+        String weather = weatherClient.getTodayWeather();
+
+        //then
+        assertThat(weather).isEqualTo("Unknown");
+        assertThat(weatherClient.getFallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 본문이 멈추면 timeout 후 이전 데이터를 반환하고, 다음 조회는 새로 요청하는지 테스트")
+    void getTodayWeatherBodyStall() {
+        //given
+        WeatherClient weatherClient = createClient(Duration.ZERO, Duration.ofMillis(200), "Unknown", 5, Duration.ofSeconds(30));
+        weatherClient.getTodayWeather();
+        bodyStallMillis = 3000;
+
+        //when
+        String weather = weatherClient.getTodayWeather();
+
+        //then
+        assertThat(weather).isEqualTo("Sunny");
+        for (int i = 0; i < 50 && weatherClient.getRefreshFailureCount() == 0; i++) {
+            sleep(20);
+        }
+        assertThat(weatherClient.getRefreshFailureCount()).isEqualTo(1);
+
+        bodyStallMillis = 0;
+        assertThat(weatherClient.getTodayWeather()).isEqualTo("Sunny");
+        assertThat(requestCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("연속으로 실패하면 차단하고, 차단 시간이 지나면 시험 호출로 다시 닫히는지 테스트")
+    void circuitBreaker() throws InterruptedException {
+        //given
+        WeatherClient weatherClient = createClient(Duration.ZERO, Duration.ofSeconds(5), "", 2, Duration.ofMillis(300));
+        responseStatus = 500;
+        assertThrows(ServerException.class, weatherClient::getTodayWeather);
+        assertThrows(ServerException.class, weatherClient::getTodayWeather);
+
+        //when
+        ServerException exception = assertThrows(ServerException.class, weatherClient::getTodayWeather);
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("날씨 API 호출이 일시적으로 차단되었습니다.");
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(weatherClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(400);
+        responseStatus = 200;
+        assertThat(weatherClient.getTodayWeather()).isEqualTo("Sunny");
+        assertThat(weatherClient.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
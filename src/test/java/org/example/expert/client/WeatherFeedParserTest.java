@@ -0,0 +1,66 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherFeedParserTest {
+
+    private final WeatherFeedParser weatherFeedParser = new WeatherFeedParser(new JsonFactory());
+
+    @Test
+    @DisplayName("날씨 응답을 날짜 -> 날씨 Map 으로 읽는다")
+    void parse() throws Exception {
+        // given
+        String body = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"},"
+                + "{\"date\":\"01-02\",\"extra\":{\"humidity\":[1,2]},\"weather\":\"Rainy\"}]";
+
+        // when
+        Map<String, String> weatherByDate = weatherFeedParser.parse(toStream(body));
+
+        // then
+        assertEquals(2, weatherByDate.size());
+        assertEquals("Sunny", weatherByDate.get("01-01"));
+        assertEquals("Rainy", weatherByDate.get("01-02"));
+    }
+
+    @Test
+    @DisplayName("날씨가 없거나 null 인 항목은 저장하지 않는다")
+    void parseSkipNullWeather() throws Exception {
+        // given
+        String body = "[{\"date\":\"01-01\",\"weather\":null},{\"date\":\"01-02\"},"
+                + "{\"date\":\"01-03\",\"weather\":\"Rainy\"}]";
+
+        // when
+        Map<String, String> weatherByDate = weatherFeedParser.parse(toStream(body));
+
+        // then
+        assertEquals(Map.of("01-03", "Rainy"), weatherByDate);
+    }
+
+    @Test
+    @DisplayName("배열 형식이 아니면 예외가 발생한다")
+    void parseNotArray() {
+        // given
+        String body = "{\"date\":\"01-01\",\"weather\":\"Sunny\"}";
+
+        // when
+        ServerException exception = assertThrows(ServerException.class,
+                () -> weatherFeedParser.parse(toStream(body)));
+
+        // then
+        assertEquals("날씨 데이터 형식이 올바르지 않습니다.", exception.getMessage());
+    }
+
+    private InputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
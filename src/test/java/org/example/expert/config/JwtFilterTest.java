@@ -5,20 +5,32 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.io.IOException;
+import java.util.Date;
 
 import io.jsonwebtoken.Claims;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +42,12 @@ class JwtFilterTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Spy
+    private JwtTokenCache jwtTokenCache = new JwtTokenCache(100);
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @Mock
     private HttpServletRequest request;
 
@@ -65,6 +83,88 @@ class JwtFilterTest {
         verify(chain).doFilter(request, response);
     }
 
+    @Test
+    @DisplayName("같은 토큰으로 다시 요청하면 캐시된 인증 정보를 사용하는지 테스트")
+    void doFilterCachedToken() throws ServletException, IOException {
+        //given
+        String token = "Bearer Token";
+
+        given(request.getRequestURI()).willReturn("/localhost");
+        given(request.getHeader("Authorization")).willReturn(token);
+
+        given(jwtUtil.substringToken(anyString())).willReturn(token);
+        given(jwtUtil.extractClaims(anyString())).willReturn(claims);
+
+        given(claims.getSubject()).willReturn("1");
+        given(claims.get("email")).willReturn("a@a.com");
+        given(claims.get("userRole")).willReturn(UserRole.USER);
+        given(claims.getExpiration()).willReturn(new Date(System.currentTimeMillis() + 60 * 1000L));
+
+        //when
+        jwtFilter.doFilter(request, response, chain);
+        jwtFilter.doFilter(request, response, chain);
+
+        //then
+        verify(jwtUtil, times(1)).extractClaims(anyString());
+        verify(chain, times(2)).doFilter(request, response);
+        verify(request, times(2)).setAttribute(eq(JwtFilter.AUTH_USER_ATTRIBUTE), any(AuthUser.class));
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰으로 접근했을때 오류 처리 테스트")
+    void doFilterErrorRevokedToken() throws ServletException, IOException {
+        //given
+        String token = "Bearer Token";
+        Date issuedAt = new Date();
+
+        given(request.getRequestURI()).willReturn("/localhost");
+        given(request.getHeader("Authorization")).willReturn(token);
+
+        given(jwtUtil.substringToken(anyString())).willReturn(token);
+        given(jwtUtil.extractClaims(anyString())).willReturn(claims);
+
+        given(claims.getSubject()).willReturn("1");
+        given(claims.get("email")).willReturn("a@a.com");
+        given(claims.get("userRole")).willReturn(UserRole.USER);
+        given(claims.getIssuedAt()).willReturn(issuedAt);
+        given(tokenRevocationService.isRevoked(1L, issuedAt.getTime())).willReturn(true);
+
+        //when
+        jwtFilter.doFilter(request, response, chain);
+
+        //then
+        verify(response).sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
+        verify(chain, times(0)).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("필터에서 검증한 인증 정보를 Interceptor와 ArgumentResolver가 토큰 재검증 없이 사용하는지 테스트")
+    void doFilterSingleParse() throws Exception {
+        //given
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest("DELETE", "/admin/comments/1");
+        mockRequest.addHeader("Authorization", "Bearer Token");
+        MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+
+        given(jwtUtil.substringToken(anyString())).willReturn("Token");
+        given(jwtUtil.extractClaims(anyString())).willReturn(claims);
+
+        given(claims.getSubject()).willReturn("1");
+        given(claims.get("email")).willReturn("a@a.com");
+        given(claims.get("userRole")).willReturn("ADMIN");
+
+        //when
+        jwtFilter.doFilter(mockRequest, mockResponse, new MockFilterChain());
+        boolean passed = new Interceptor().preHandle(mockRequest, mockResponse, new Object());
+        AuthUser authUser = (AuthUser) new AuthUserArgumentResolver()
+                .resolveArgument(null, null, new ServletWebRequest(mockRequest), null);
+
+        //then
+        verify(jwtUtil, times(1)).extractClaims(anyString());
+        assertThat(passed).isTrue();
+        assertThat(authUser.getId()).isEqualTo(1L);
+        assertThat(authUser.getUserRole()).isEqualTo(UserRole.ADMIN);
+    }
+
     @Test
     @DisplayName("접근하는 경로가 /auth인 경우 필터를 통과시키는지 테스트")
     void doFilterPass() throws ServletException, IOException {
@@ -0,0 +1,67 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenCacheTest {
+
+    private final AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+    @Test
+    @DisplayName("캐시에 저장된 토큰을 조회하면 인증 정보와 hit 횟수가 반환되는지 테스트")
+    void getCachedToken() {
+        //given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10);
+        jwtTokenCache.put("token", authUser, new Date(), new Date(System.currentTimeMillis() + 60 * 1000L));
+
+        //when
+        JwtTokenCache.VerifiedToken cached = jwtTokenCache.get("token");
+        JwtTokenCache.VerifiedToken notCached = jwtTokenCache.get("other");
+
+        //then
+        assertThat(cached.authUser()).isSameAs(authUser);
+        assertThat(notCached).isNull();
+        assertThat(jwtTokenCache.getHitCount()).isEqualTo(1);
+        assertThat(jwtTokenCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에서 반환되지 않는지 테스트")
+    void getExpiredToken() {
+        //given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10);
+        jwtTokenCache.put("token", authUser, new Date(), new Date(System.currentTimeMillis() - 1000L));
+
+        //when
+        JwtTokenCache.VerifiedToken cached = jwtTokenCache.get("token");
+
+        //then
+        assertThat(cached).isNull();
+        assertThat(jwtTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 토큰이 제거되는지 테스트")
+    void evictEldestToken() {
+        //given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(2);
+        Date expiration = new Date(System.currentTimeMillis() + 60 * 1000L);
+        jwtTokenCache.put("token1", authUser, new Date(), expiration);
+        jwtTokenCache.put("token2", authUser, new Date(), expiration);
+        jwtTokenCache.get("token1");
+
+        //when
+        jwtTokenCache.put("token3", authUser, new Date(), expiration);
+
+        //then
+        assertThat(jwtTokenCache.size()).isEqualTo(2);
+        assertThat(jwtTokenCache.get("token1")).isNotNull();
+        assertThat(jwtTokenCache.get("token2")).isNull();
+    }
+}
@@ -36,4 +36,23 @@ class JwtUtilTest {
         //then
         assertThat(token).startsWith("Bearer ");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("토큰 발급 시각을 밀리초 단위로 읽을 수 있는지 테스트")
+    void getIssuedAtMillis() {
+        //given
+        String secretKey = "dlrjtdmstnarutjwkrtjdgodiehlsmseprnlcksgdktjdurlekwkrtjdgkqslek";
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+        jwtUtil.init();
+        long before = System.currentTimeMillis();
+        String token = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        long after = System.currentTimeMillis();
+
+        //when
+        long issuedAtMillis = JwtUtil.getIssuedAtMillis(jwtUtil.extractClaims(jwtUtil.substringToken(token)));
+
+        //then
+        // iat 만 사용하면 초 단위로 잘려 before 보다 작아질 수 있습니다.
+        assertThat(issuedAtMillis).isBetween(before, after);
+    }
+}
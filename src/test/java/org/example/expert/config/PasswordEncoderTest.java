@@ -1,10 +1,20 @@
 package org.example.expert.config;
 
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -13,6 +23,19 @@ class PasswordEncoderTest {
     @InjectMocks
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(passwordEncoder, "poolSize", 1);
+        ReflectionTestUtils.setField(passwordEncoder, "queueCapacity", 1);
+        ReflectionTestUtils.setField(passwordEncoder, "timeout", Duration.ofSeconds(5));
+        passwordEncoder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -24,5 +47,67 @@ class PasswordEncoderTest {
 
         // then
         assertTrue(matches);
+        assertThat(passwordEncoder.getHashCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 저장된_해시의_cost가_목표_cost보다_낮으면_재해시가_필요하다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 5);
+
+        // when
+        boolean needsUpgrade = passwordEncoder.needsUpgrade(encodedPassword);
+        String upgradedPassword = passwordEncoder.encode("testPassword");
+
+        // then
+        assertTrue(needsUpgrade);
+        assertThat(passwordEncoder.needsUpgrade(upgradedPassword)).isFalse();
+    }
+
+    @Test
+    void 대기열이_가득_차면_ServiceUnavailableException을_던진다() throws InterruptedException {
+        // given
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordEncoder, "executor");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        executor.execute(() -> {});
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode("testPassword"));
+        assertThat(passwordEncoder.getRejectedCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void 시간_안에_끝나지_않으면_ServiceUnavailableException을_던진다() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "timeout", Duration.ofMillis(100));
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordEncoder, "executor");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode("testPassword"));
+        assertThat(passwordEncoder.getTimedOutCount()).isEqualTo(1);
+        release.countDown();
     }
 }
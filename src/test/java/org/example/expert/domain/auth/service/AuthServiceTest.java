@@ -4,13 +4,16 @@ import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserPasswordUpgradeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +21,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -25,6 +30,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -41,6 +48,12 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserPasswordUpgradeService userPasswordUpgradeService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @Test
     @DisplayName("회원가입이 정상적으로 이루어지는지 테스트")
     void signup() {
@@ -95,6 +108,51 @@ class AuthServiceTest {
 
     }
 
+    @Test
+    @DisplayName("저장된 비밀번호의 cost가 낮으면 로그인 후 재해시를 요청하는지 테스트")
+    void signinUpgradePassword() {
+        //given
+        SigninRequest signinRequest = new SigninRequest("a@a.com", "1234");
+        User user = new User("a@a.com", "encoded", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
+        given(passwordEncoder.needsUpgrade(user.getPassword())).willReturn(true);
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn("Bearer ");
+
+        //when
+        authService.signin(signinRequest);
+
+        //then
+        verify(userPasswordUpgradeService).upgradePassword(1L, "encoded", "1234");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 로그인하면 커밋된 뒤에 재해시를 요청하는지 테스트")
+    void signinUpgradePasswordAfterCommit() {
+        //given
+        SigninRequest signinRequest = new SigninRequest("a@a.com", "1234");
+        User user = new User("a@a.com", "encoded", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
+        given(passwordEncoder.needsUpgrade(user.getPassword())).willReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            authService.signin(signinRequest);
+            verify(userPasswordUpgradeService, never()).upgradePassword(anyLong(), anyString(), anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            //then
+            verify(userPasswordUpgradeService).upgradePassword(1L, "encoded", "1234");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     @DisplayName("로그인을 시도하는 정보가 가입되어 있지 않은 경우 예외 처리 테스트")
     void signinErrorNotSignup() {
@@ -126,4 +184,25 @@ class AuthServiceTest {
         //then
         assertThat(authException.getMessage()).isEqualTo("잘못된 비밀번호입니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("refresh token으로 비밀번호 검증 없이 토큰을 재발급하는지 테스트")
+    void refresh() {
+        //given
+        TokenRefreshRequest tokenRefreshRequest = new TokenRefreshRequest("refresh");
+        User user = new User("a@a.com", "1234", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(refreshTokenService.consume("refresh")).willReturn(user);
+        given(refreshTokenService.issue(user)).willReturn("newRefresh");
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn("Bearer ");
+
+        //when
+        TokenRefreshResponse response = authService.refresh(tokenRefreshRequest);
+
+        //then
+        assertThat(response.getBearerToken()).isEqualTo("Bearer ");
+        assertThat(response.getRefreshToken()).isEqualTo("newRefresh");
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginRateLimiterTest {
+
+    @Test
+    @DisplayName("같은 이메일로 허용 횟수를 넘겨 로그인을 시도하면 예외 처리 테스트")
+    void checkSigninErrorEmailLimit() {
+        //given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(2, 100, 1000);
+        loginRateLimiter.checkSignin("a@a.com", "127.0.0.1");
+        loginRateLimiter.checkSignin("A@A.com", "127.0.0.2");
+
+        //when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimiter.checkSignin("a@a.com", "127.0.0.3"));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(loginRateLimiter.getAllowedCount()).isEqualTo(2);
+        assertThat(loginRateLimiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 허용 횟수를 넘겨 로그인을 시도하면 예외 처리 테스트")
+    void checkSigninErrorIpLimit() {
+        //given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(100, 2, 1000);
+        loginRateLimiter.checkSignin("a@a.com", "127.0.0.1");
+        loginRateLimiter.checkSignin("b@b.com", "127.0.0.1");
+
+        //when & then
+        assertThrows(TooManyRequestsException.class, () -> loginRateLimiter.checkSignin("c@c.com", "127.0.0.1"));
+        assertDoesNotThrow(() -> loginRateLimiter.checkSignin("c@c.com", "127.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("key 가 최대 개수에 도달하면 가장 오래 사용되지 않은 버킷부터 제거하는지 테스트")
+    void checkSigninEvictOldest() {
+        //given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(100, 100, 10);
+        // ip key 1개와 email key 9개로 최대 개수를 채웁니다.
+        for (int i = 0; i < 9; i++) {
+            loginRateLimiter.checkSignin("user" + i + "@a.com", "127.0.0.1");
+        }
+
+        //when
+        loginRateLimiter.checkSignin("new@a.com", "127.0.0.2");
+
+        //then
+        assertThat(loginRateLimiter.getTrackedKeyCount()).isEqualTo(10);
+        assertThat(loginRateLimiter.getEvictedCount()).isEqualTo(2);
+    }
+}
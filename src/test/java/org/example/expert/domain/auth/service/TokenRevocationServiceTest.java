@@ -0,0 +1,121 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    @DisplayName("토큰을 폐기하면 폐기 이전에 발급된 토큰만 폐기된 것으로 처리하는지 테스트")
+    void revokeAllTokens() {
+        //given
+        given(tokenRevocationRepository.save(any(TokenRevocation.class))).willAnswer(invocation -> {
+            TokenRevocation revocation = invocation.getArgument(0);
+            ReflectionTestUtils.setField(revocation, "id", 1L);
+            return revocation;
+        });
+        long issuedBefore = System.currentTimeMillis() - 1000L;
+
+        //when
+        tokenRevocationService.revokeAllTokens(1L);
+
+        //then
+        assertThat(tokenRevocationService.isRevoked(1L, issuedBefore)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(1L, System.currentTimeMillis() + 1000L)).isFalse();
+        assertThat(tokenRevocationService.isRevoked(2L, issuedBefore)).isFalse();
+        verify(refreshTokenService).revokeAll(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 폐기하면 커밋된 뒤에야 폐기된 것으로 처리하는지 테스트")
+    void revokeAllTokensAfterCommit() {
+        //given
+        given(tokenRevocationRepository.save(any(TokenRevocation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        long issuedBefore = System.currentTimeMillis() - 1000L;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            tokenRevocationService.revokeAllTokens(1L);
+            boolean revokedBeforeCommit = tokenRevocationService.isRevoked(1L, issuedBefore);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            //then
+            assertThat(revokedBeforeCommit).isFalse();
+            assertThat(tokenRevocationService.isRevoked(1L, issuedBefore)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 추가된 폐기 이력을 가져오는지 테스트")
+    void refresh() {
+        //given
+        LocalDateTime revokedAt = LocalDateTime.now();
+        TokenRevocation revocation = new TokenRevocation(3L, revokedAt, revokedAt.plusHours(1));
+        ReflectionTestUtils.setField(revocation, "id", 5L);
+        given(tokenRevocationRepository.findAll()).willReturn(List.of(revocation));
+        long issuedAt = revokedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - 1000L;
+
+        //when
+        tokenRevocationService.refresh();
+
+        //then
+        assertThat(tokenRevocationService.isRevoked(3L, issuedAt)).isTrue();
+        assertThat(ReflectionTestUtils.getField(tokenRevocationService, "lastSeenRevokedAt")).isEqualTo(revokedAt);
+    }
+
+    @Test
+    @DisplayName("id 가 작은 폐기 이력이 늦게 커밋되어도 겹치는 구간을 다시 읽어 가져오는지 테스트")
+    void refreshLateCommit() {
+        //given
+        ReflectionTestUtils.setField(tokenRevocationService, "refreshOverlap", Duration.ofMinutes(1));
+        LocalDateTime now = LocalDateTime.now();
+        TokenRevocation later = new TokenRevocation(3L, now, now.plusHours(1));
+        ReflectionTestUtils.setField(later, "id", 6L);
+        given(tokenRevocationRepository.findAll()).willReturn(List.of(later));
+        tokenRevocationService.refresh();
+
+        // id 5 는 id 6 보다 먼저 발급되었지만 이전 조회 이후에 커밋되었습니다.
+        TokenRevocation earlier = new TokenRevocation(4L, now.minusSeconds(2), now.plusHours(1));
+        ReflectionTestUtils.setField(earlier, "id", 5L);
+        given(tokenRevocationRepository.findByRevokedAtGreaterThanEqual(now.minusMinutes(1))).willReturn(List.of(earlier, later));
+        long issuedAt = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - 10_000L;
+
+        //when
+        tokenRevocationService.refresh();
+
+        //then
+        assertThat(tokenRevocationService.isRevoked(4L, issuedAt)).isTrue();
+        assertThat(ReflectionTestUtils.getField(tokenRevocationService, "lastSeenRevokedAt")).isEqualTo(now);
+    }
+}
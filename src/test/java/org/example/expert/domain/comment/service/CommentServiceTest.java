@@ -5,10 +5,13 @@ import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
@@ -19,14 +22,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -35,6 +47,10 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+    @Mock
+    private TodoResponseCache todoResponseCache;
     @InjectMocks
     private CommentService commentService;
 
@@ -74,6 +90,7 @@ class CommentServiceTest {
 
         // then
         assertNotNull(result);
+        verify(todoRepository).addCommentCount(any(), eq(1L), any());
     }
 
     @Test
@@ -81,16 +98,11 @@ class CommentServiceTest {
     void getComments() {
         //given
         long todoId = 1L;
-        User user = new User("user1@example.com", "password", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", 1L);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
+        CommentResponse comment1 = new CommentResponse(1L, "contents1", 1L, "user1@example.com");
+        CommentResponse comment2 = new CommentResponse(2L, "contents2", 1L, "user1@example.com");
+        List<CommentResponse> commentList = List.of(comment1, comment2);
 
-        Comment comment1 = new Comment("contents1", user, todo);
-        Comment comment2 = new Comment("contents2", user, todo);
-        List<Comment> commentList = List.of(comment1, comment2);
-
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findCommentResponsesByTodoId(todoId)).willReturn(commentList);
 
         //when
         List<CommentResponse> comments = commentService.getComments(todoId);
@@ -100,4 +112,38 @@ class CommentServiceTest {
         assertThat(comments.get(0).getContents()).isEqualTo("contents1");
 
     }
+
+    @Test
+    @DisplayName("같은 할일의 댓글 목록을 동시에 조회하면 DB 는 한 번만 조회하는지 테스트")
+    void getCommentsConcurrently() throws Exception {
+        //given
+        long todoId = 1L;
+        int threadCount = 10;
+        List<CommentResponse> commentList = List.of(new CommentResponse(1L, "contents1", 1L, "user1@example.com"));
+        CountDownLatch release = new CountDownLatch(1);
+        given(commentRepository.findCommentResponsesByTodoId(todoId)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return commentList;
+        });
+        SingleFlight<?, ?> commentLoads = (SingleFlight<?, ?>) ReflectionTestUtils.getField(commentService, "commentLoads");
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        //when
+        List<Future<List<CommentResponse>>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> commentService.getComments(todoId)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (commentLoads.getCoalescedCount() < threadCount - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        //then
+        for (Future<List<CommentResponse>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(commentList);
+        }
+        verify(commentRepository, times(1)).findCommentResponsesByTodoId(todoId);
+        executorService.shutdown();
+    }
 }
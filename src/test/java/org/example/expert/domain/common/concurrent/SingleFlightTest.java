@@ -0,0 +1,82 @@
+package org.example.expert.domain.common.concurrent;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 key 로 동시에 실행하면 한 번만 조회하고 결과를 함께 받는지 테스트")
+    void executeConcurrently() throws Exception {
+        //given
+        int threadCount = 10;
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger queryCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        //when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> singleFlight.execute(1L, () -> {
+                queryCount.incrementAndGet();
+                awaitQuietly(release);
+                return "result";
+            })));
+        }
+        // 나머지 요청이 모두 먼저 들어온 조회를 기다리기 시작한 뒤에 조회를 끝냅니다.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < threadCount - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        //then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(queryCount.get()).isEqualTo(1);
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(1);
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(threadCount - 1);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회가 끝난 뒤에 들어온 요청과 실패한 조회는 다시 조회하는지 테스트")
+    void executeAfterCompletion() {
+        //given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        //when
+        assertThrows(InvalidRequestException.class, () -> singleFlight.execute(1L, () -> {
+            throw new InvalidRequestException("Todo not found");
+        }));
+        String result = singleFlight.execute(1L, () -> "result");
+
+        //then
+        assertThat(result).isEqualTo("result");
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(2);
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
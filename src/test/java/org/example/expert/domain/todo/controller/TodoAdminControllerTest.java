@@ -0,0 +1,139 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "jwt.secret.key=" + "bXktc2VjcmV0LWtleS1mb3ItdGVzdC1zaG91bGQtYmUtbG9uZw==",
+        "todo.export.fetch-size=2"
+})
+@Transactional
+class TodoAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String adminToken;
+    private String userToken;
+
+    @BeforeEach
+    void setup() {
+        User admin = userRepository.save(new User("admin@a.com", passwordEncoder.encode("password"), UserRole.ADMIN));
+        User user = userRepository.save(new User("a@a.com", passwordEncoder.encode("password"), UserRole.USER));
+        for (int i = 0; i < 5; i++) {
+            todoRepository.save(new Todo("title" + i, "contents" + i, i % 2 == 0 ? "Sunny" : null, user));
+        }
+        todoRepository.flush();
+
+        adminToken = jwtUtil.createToken(admin.getId(), admin.getEmail(), admin.getUserRole());
+        userToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+    }
+
+    @Test
+    @DisplayName("할일을 id 순으로 한 줄에 하나씩 내보내는지 통합 테스트")
+    void exportTodos() throws Exception {
+        String body = mockMvc.perform(get("/admin/todos/export")
+                        .header("Authorization", adminToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertExported(body);
+    }
+
+    @Test
+    @DisplayName("gzip 의 q 가 0 이면 압축하지 않고 내보내는지 통합 테스트")
+    void exportTodosGzipRefused() throws Exception {
+        String body = mockMvc.perform(get("/admin/todos/export")
+                        .header("Authorization", adminToken)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertExported(body);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 gzip 을 허용하면 압축해서 내보내는지 통합 테스트")
+    void exportTodosGzip() throws Exception {
+        byte[] compressed = mockMvc.perform(get("/admin/todos/export")
+                        .header("Authorization", adminToken)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertExported(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 내보낼 수 없는지 통합 테스트")
+    void exportTodosForbidden() throws Exception {
+        mockMvc.perform(get("/admin/todos/export")
+                        .header("Authorization", userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private void assertExported(String body) throws Exception {
+        assertEquals('\n', body.charAt(body.length() - 1));
+
+        List<String> lines = body.lines().toList();
+        assertEquals(5, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            JsonNode todo = objectMapper.readTree(lines.get(i));
+            assertEquals("title" + i, todo.get("title").asText());
+            assertEquals("a@a.com", todo.get("user").get("email").asText());
+            assertEquals(i % 2 == 0 ? "Sunny" : null, todo.get("weather").isNull() ? null : todo.get("weather").asText());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "jwt.secret.key=" + "bXktc2VjcmV0LWtleS1mb3ItdGVzdC1zaG91bGQtYmUtbG9uZw==",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional
+class TodoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String token;
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setup() {
+        user = new User("a@a.com", passwordEncoder.encode("password"), UserRole.USER);
+        userRepository.save(user);
+        todo = todoRepository.saveAndFlush(new Todo("title", "contents", "Sunny", user));
+
+        token = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+    }
+
+    @Test
+    @DisplayName("할일 상세 조회는 댓글, 담당자 수와 상관없이 세 번의 쿼리로 조회하는지 통합 테스트")
+    void getTodoDetailQueryCount() throws Exception {
+        User manager = userRepository.save(new User("b@b.com", passwordEncoder.encode("password"), UserRole.USER));
+        managerRepository.save(new Manager(manager, todo));
+        for (int i = 0; i < 5; i++) {
+            commentRepository.save(new Comment("comment" + i, i % 2 == 0 ? user : manager, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/todos/{todoId}/detail", todo.getId())
+                        .param("commentLimit", "3")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todo.id").value(todo.getId()))
+                .andExpect(jsonPath("$.comments.length()").value(3))
+                .andExpect(jsonPath("$.comments[0].contents").value("comment0"))
+                .andExpect(jsonPath("$.hasMoreComments").value(true))
+                .andExpect(jsonPath("$.managers.length()").value(2));
+
+        // 할일 1번, 댓글 1번, 담당자 1번
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 할일 조회 시 DB 조회 없이 캐시된 버전으로 304 를 반환하는지 통합 테스트")
+    void getTodoNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/todos/{todoId}", todo.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.id").value(todo.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/todos/{todoId}", todo.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("댓글이 추가되면 이전 ETag 로 댓글 목록을 조회해도 새 목록을 반환하는지 통합 테스트")
+    void getCommentsModifiedAfterSave() throws Exception {
+        String eTag = mockMvc.perform(get("/todos/{todoId}/comments", todo.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/todos/{todoId}/comments", todo.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/todos/{todoId}/comments", todo.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(new CommentSaveRequest("comment"))))
+                .andExpect(status().isOk());
+
+        String newETag = mockMvc.perform(get("/todos/{todoId}/comments", todo.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].contents").value("comment"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+
+        mockMvc.perform(get("/todos/{todoId}", todo.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(1))
+                .andExpect(jsonPath("$.managerCount").value(1));
+    }
+}
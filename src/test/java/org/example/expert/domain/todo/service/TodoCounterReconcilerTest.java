@@ -0,0 +1,61 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.TodoCounts;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCounterReconcilerTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoResponseCache todoResponseCache;
+
+    private TodoCounterReconciler todoCounterReconciler;
+
+    @BeforeEach
+    void setUp() {
+        todoCounterReconciler = new TodoCounterReconciler(todoRepository, todoResponseCache, 2);
+    }
+
+    @Test
+    @DisplayName("저장된 수가 실제와 다른 할일만 다시 세고 캐시에서 지우는지 테스트")
+    void reconcile() {
+        //given
+        given(todoRepository.findCounts(0L, Limit.of(2))).willReturn(List.of(
+                new TodoCounts(1L, 2, 2, 1, 1),
+                new TodoCounts(2L, 3, 1, 1, 1)
+        ));
+        given(todoRepository.findCounts(2L, Limit.of(2))).willReturn(List.of(
+                new TodoCounts(3L, 0, 0, 1, 2)
+        ));
+        given(todoRepository.findCounts(3L, Limit.of(2))).willReturn(List.of());
+        given(todoRepository.recountCounts(eq(List.of(2L)), any())).willReturn(1);
+        given(todoRepository.recountCounts(eq(List.of(3L)), any())).willReturn(1);
+
+        //when
+        TodoCounterReconciler.ReconcileResult result = todoCounterReconciler.reconcile();
+
+        //then
+        assertThat(result.scannedCount()).isEqualTo(3);
+        assertThat(result.correctedCount()).isEqualTo(2);
+        verify(todoResponseCache).evictAll(List.of(2L));
+        verify(todoResponseCache).evictAll(List.of(3L));
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.VersionedTodoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoResponseCacheTest {
+
+    private final VersionedTodoResponse todo1 = new VersionedTodoResponse(1L, "title1", "contents1", "sunny", 1L, "a@a.com", 0L, 1L, null, null, 0L, null);
+    private final VersionedTodoResponse todo2 = new VersionedTodoResponse(2L, "title2", "contents2", "sunny", 1L, "a@a.com", 0L, 1L, null, null, 0L, null);
+
+    @Test
+    @DisplayName("TTL 이 지난 할일은 다시 조회하는지 테스트")
+    void getExpired() {
+        //given
+        TodoResponseCache todoResponseCache = new TodoResponseCache(10, Duration.ZERO);
+        todoResponseCache.get(1L, id -> todo1);
+
+        //when
+        todoResponseCache.get(1L, id -> todo1);
+
+        //then
+        assertThat(todoResponseCache.getHitCount()).isZero();
+        assertThat(todoResponseCache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 할일이 제거되는지 테스트")
+    void evictEldest() {
+        //given
+        TodoResponseCache todoResponseCache = new TodoResponseCache(1, Duration.ofMinutes(1));
+        todoResponseCache.get(1L, id -> todo1);
+
+        //when
+        todoResponseCache.get(2L, id -> todo2);
+        todoResponseCache.get(1L, id -> todo1);
+
+        //then
+        assertThat(todoResponseCache.size()).isEqualTo(1);
+        assertThat(todoResponseCache.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화된 할일은 캐시에 넣지 않는지 테스트")
+    void evictWhileLoading() {
+        //given
+        TodoResponseCache todoResponseCache = new TodoResponseCache(10, Duration.ofMinutes(1));
+
+        //when
+        todoResponseCache.get(1L, id -> {
+            todoResponseCache.evict(id);
+            return todo1;
+        });
+
+        //then
+        assertThat(todoResponseCache.size()).isZero();
+    }
+}
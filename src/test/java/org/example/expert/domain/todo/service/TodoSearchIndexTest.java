@@ -0,0 +1,163 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.dto.CommentSearchDocument;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.TodoSearchCursor;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoSearchIndexTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private TodoSearchIndex todoSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        todoSearchIndex = new TodoSearchIndex(todoRepository, commentRepository, 2, false);
+    }
+
+    @Test
+    @DisplayName("시작 시 색인이 만들어지기 전에는 검색을 거절하는지 테스트")
+    void searchBeforeStartupRebuild() {
+        //given
+        TodoSearchIndex startingIndex = new TodoSearchIndex(todoRepository, commentRepository, 2, true);
+        given(todoRepository.findSearchDocuments(eq(0L), any(Limit.class)))
+                .willReturn(List.of(new TodoSearchDocument(1L, "우유", "")));
+        given(commentRepository.findSearchDocuments(eq(0L), any(Limit.class))).willReturn(List.of());
+
+        //when
+        assertThrows(ServiceUnavailableException.class, () -> startingIndex.search("우유", null, 10));
+        startingIndex.rebuildOnStartup();
+
+        //then
+        assertThat(startingIndex.search("우유", null, 10).hits())
+                .extracting(TodoSearchIndex.SearchHit::todoId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제목에 나온 단어가 내용이나 댓글보다 높은 점수를 받는지 테스트")
+    void searchRanking() {
+        //given
+        todoSearchIndex.indexTodo(1L, "장보기", "우유 사기");
+        todoSearchIndex.indexTodo(2L, "우유 배달", "아침");
+        todoSearchIndex.indexTodo(3L, "운동", "헬스장");
+        todoSearchIndex.indexComment(10L, 3L, "운동 끝나고 우유");
+
+        //when
+        List<TodoSearchIndex.SearchHit> hits = todoSearchIndex.search("우유", null, 10).hits();
+
+        //then
+        assertThat(hits).extracting(TodoSearchIndex.SearchHit::todoId).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 댓글과 다시 색인된 할일의 이전 단어는 검색되지 않는지 테스트")
+    void searchAfterUpdate() {
+        //given
+        todoSearchIndex.indexTodo(1L, "Spring Boot", "study");
+        todoSearchIndex.indexComment(10L, 1L, "JPA");
+
+        //when
+        todoSearchIndex.indexTodo(1L, "Spring", "study");
+        todoSearchIndex.removeComment(10L);
+
+        //then
+        assertThat(todoSearchIndex.search("boot", null, 10).hits()).isEmpty();
+        assertThat(todoSearchIndex.search("jpa", null, 10).hits()).isEmpty();
+        assertThat(todoSearchIndex.search("SPRING", null, 10).hits()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("cursor 이후의 결과만 이어서 반환하는지 테스트")
+    void searchWithCursor() {
+        //given
+        todoSearchIndex.indexTodo(1L, "todo", "");
+        todoSearchIndex.indexTodo(2L, "todo", "");
+        todoSearchIndex.indexTodo(3L, "todo", "");
+
+        //when
+        TodoSearchIndex.SearchResult firstPage = todoSearchIndex.search("todo", null, 2);
+        TodoSearchIndex.SearchHit last = firstPage.hits().get(1);
+        TodoSearchCursor cursor = new TodoSearchCursor(last.score(), last.todoId(), firstPage.idfs());
+        List<TodoSearchIndex.SearchHit> secondPage = todoSearchIndex.search("todo", cursor, 2).hits();
+
+        //then
+        assertThat(firstPage.hits()).extracting(TodoSearchIndex.SearchHit::todoId).containsExactly(3L, 2L);
+        assertThat(secondPage).extracting(TodoSearchIndex.SearchHit::todoId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("페이지 사이에 할일이 추가되어 idf 가 바뀌어도 결과가 빠지거나 반복되지 않는지 테스트")
+    void searchWithCursorAfterIndexChange() {
+        //given
+        todoSearchIndex.indexTodo(1L, "우유", "");
+        todoSearchIndex.indexTodo(2L, "빵", "");
+        todoSearchIndex.indexTodo(3L, "우유", "빵");
+        todoSearchIndex.indexTodo(4L, "빵", "우유");
+        TodoSearchIndex.SearchResult firstPage = todoSearchIndex.search("우유 빵", null, 2);
+        TodoSearchIndex.SearchHit last = firstPage.hits().get(1);
+        TodoSearchCursor cursor = new TodoSearchCursor(last.score(), last.todoId(), firstPage.idfs());
+
+        // "빵" 이 들어간 할일이 늘어나 "우유" 의 idf 는 커지고 "빵" 의 idf 는 작아집니다.
+        // 현재 idf 로 계산하면 1번의 점수가 cursor 보다 커져 1번이 빠집니다.
+        for (long id = 5L; id <= 20L; id++) {
+            todoSearchIndex.indexTodo(id, "", "빵");
+        }
+
+        //when
+        List<TodoSearchIndex.SearchHit> secondPage = todoSearchIndex.search("우유 빵", cursor, 2).hits();
+
+        //then
+        assertThat(firstPage.hits()).extracting(TodoSearchIndex.SearchHit::todoId).containsExactly(4L, 3L);
+        assertThat(secondPage).extracting(TodoSearchIndex.SearchHit::todoId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("DB 에서 할일과 댓글을 나누어 읽어 색인을 다시 만드는지 테스트")
+    void rebuild() {
+        //given
+        given(todoRepository.findSearchDocuments(0L, Limit.of(2))).willReturn(List.of(
+                new TodoSearchDocument(1L, "first", "todo"),
+                new TodoSearchDocument(2L, "second", "todo")
+        ));
+        given(todoRepository.findSearchDocuments(2L, Limit.of(2))).willReturn(List.of(
+                new TodoSearchDocument(3L, "third", "todo")
+        ));
+        given(commentRepository.findSearchDocuments(eq(0L), any(Limit.class))).willReturn(List.of(
+                new CommentSearchDocument(1L, 1L, "comment")
+        ));
+        todoSearchIndex.indexTodo(99L, "deleted", "todo");
+
+        //when
+        TodoSearchIndex.RebuildResult result = todoSearchIndex.rebuild();
+
+        //then
+        assertThat(result.todoCount()).isEqualTo(3);
+        assertThat(result.commentCount()).isEqualTo(1);
+        assertThat(todoSearchIndex.search("deleted", null, 10).hits()).isEmpty();
+        assertThat(todoSearchIndex.search("comment", null, 10).hits())
+                .extracting(TodoSearchIndex.SearchHit::todoId).containsExactly(1L);
+    }
+}
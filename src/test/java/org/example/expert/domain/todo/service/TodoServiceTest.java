@@ -1,9 +1,23 @@
 package org.example.expert.domain.todo.service;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.TodoSearchCursor;
+import org.example.expert.domain.todo.dto.VersionedTodoResponse;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
@@ -15,20 +29,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
@@ -39,6 +61,24 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @Mock
+    private TodoCountCache todoCountCache;
+
+    @Spy
+    private TodoResponseCache todoResponseCache = new TodoResponseCache(100, Duration.ofMinutes(1));
+
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -73,32 +113,263 @@ class TodoServiceTest {
         assertThat(response.getWeather()).isEqualTo("sunny");
     }
 
+    @Test
+    @DisplayName("비동기 모드에서 날씨가 준비되지 않았으면 날씨 없이 저장하고 대기열에 넣는지 테스트")
+    void saveTodoWeatherPending() {
+        //given
+        ReflectionTestUtils.setField(todoService, "asyncWeatherEnrichment", true);
+        AuthUser author = new AuthUser(1L, "a@a.com", UserRole.USER);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents");
+
+        given(weatherClient.findCachedTodayWeather()).willReturn(null);
+
+        Todo savedTodo = new Todo("title", "contents", null, User.fromAuthUser(author));
+        ReflectionTestUtils.setField(savedTodo, "id", 1L);
+        given(todoRepository.save(any(Todo.class))).willReturn(savedTodo);
+
+        //when
+        TodoSaveResponse response = todoService.saveTodo(author, todoSaveRequest);
+
+        //then
+        assertThat(response.getWeather()).isNull();
+        assertThat(response.isWeatherPending()).isTrue();
+        verify(todoWeatherEnricher).enqueue(1L);
+    }
+
+    @Test
+    @DisplayName("여러 할일을 한 번에 저장할 때 날씨는 한 번만 조회하고 항목별 결과를 반환하는지 테스트")
+    void saveTodos() {
+        //given
+        ReflectionTestUtils.setField(todoService, "maxBatchSize", 10);
+        AuthUser author = new AuthUser(1L, "a@a.com", UserRole.USER);
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("", "contents2"),
+                new TodoSaveRequest("title3", "contents3")
+        ));
+
+        given(weatherClient.getTodayWeather()).willReturn("sunny");
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            for (int i = 0; i < todos.size(); i++) {
+                ReflectionTestUtils.setField(todos.get(i), "id", 10L + i);
+            }
+            return todos;
+        });
+
+        //when
+        TodoBatchSaveResponse response = todoService.saveTodos(author, request);
+
+        //then
+        assertEquals(2, response.getSavedCount());
+        assertEquals(1, response.getFailedCount());
+        assertEquals("sunny", response.getWeather());
+        assertEquals(List.of(true, false, true), response.getResults().stream().map(TodoBatchItemResult::isSaved).toList());
+        assertEquals(10L, response.getResults().get(0).getId());
+        assertEquals(11L, response.getResults().get(2).getId());
+        assertEquals(1, response.getResults().get(1).getIndex());
+        verify(weatherClient, times(1)).getTodayWeather();
+        verify(todoSearchIndex, times(2)).indexTodo(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("한 번에 등록할 수 있는 개수를 넘으면 오류 처리 테스트")
+    void saveTodosTooMany() {
+        //given
+        ReflectionTestUtils.setField(todoService, "maxBatchSize", 1);
+        AuthUser author = new AuthUser(1L, "a@a.com", UserRole.USER);
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("title2", "contents2")
+        ));
+
+        //when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.saveTodos(author, request));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("할일은 한 번에 최대 1개까지 등록할 수 있습니다.");
+        verify(todoRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("할일 상세 조회 시 댓글을 commentLimit 개까지만 포함하고 더 있는지 표시하는지 테스트")
+    void getTodoDetail() {
+        //given
+        ReflectionTestUtils.setField(todoService, "maxDetailComments", 100);
+        long todoId = 1L;
+        TodoResponse todo = new TodoResponse(todoId, "title", "contents", "sunny", 1L, "a@a.com", 0L, 1L, null, null);
+        given(todoRepository.findVersionedTodoResponseById(todoId)).willReturn(Optional.of(new VersionedTodoResponse(todo, null)));
+        given(commentRepository.findCommentResponsesByTodoId(todoId, Limit.of(3))).willReturn(List.of(
+                new CommentResponse(1L, "comment1", 1L, "a@a.com"),
+                new CommentResponse(2L, "comment2", 1L, "a@a.com"),
+                new CommentResponse(3L, "comment3", 1L, "a@a.com")
+        ));
+        given(managerRepository.findManagerResponsesByTodoId(todoId)).willReturn(List.of(new ManagerResponse(1L, 1L, "a@a.com")));
+
+        //when
+        TodoDetailResponse response = todoService.getTodoDetail(todoId, 2);
+
+        //then
+        assertEquals(todoId, response.getTodo().getId());
+        assertEquals(List.of(1L, 2L), response.getComments().stream().map(CommentResponse::getId).toList());
+        assertTrue(response.isHasMoreComments());
+        assertEquals(1, response.getManagers().size());
+    }
+
+    @Test
+    @DisplayName("commentLimit 이 최대값을 넘으면 오류 처리 테스트")
+    void getTodoDetailInvalidCommentLimit() {
+        //given
+        ReflectionTestUtils.setField(todoService, "maxDetailComments", 100);
+
+        //when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodoDetail(1L, 101));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("commentLimit 은 0 이상 100 이하여야 합니다.");
+        verify(todoRepository, never()).findVersionedTodoResponseById(any());
+    }
+
     @Test
     @DisplayName("할일 목록을 페이징하여 출력 기능이 정상 작동하는지 테스트")
     void getTodos() {
         //given
         int page = 1;
         int size = 10;
-        User user = new User("a@a.com", "1234", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", 1L);
-
-        Todo todo1 = new Todo("title1","contents1", "sunny", user);
-        ReflectionTestUtils.setField(todo1, "id", 1L);
-        Todo todo2 = new Todo("title2","contents2", "sunny", user);
-        ReflectionTestUtils.setField(todo2, "id", 2L);
-
-        Page<Todo> todoPage = new PageImpl<>(List.of(todo1, todo2));
+        TodoResponse todo1 = new TodoResponse(1L, "title1", "contents1", "sunny", 1L, "a@a.com", 0L, 1L, null, null);
+        TodoResponse todo2 = new TodoResponse(2L, "title2", "contents2", "sunny", 1L, "a@a.com", 0L, 1L, null, null);
 
         Pageable pageable = PageRequest.of(page - 1, size);
-        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(todoPage);
+        given(todoRepository.findTodoResponses(pageable))
+                .willReturn(new SliceImpl<>(List.of(todo1, todo2), pageable, false));
+        given(todoCountCache.getCount()).willReturn(2L);
 
         //when
-        Page<TodoResponse> result = todoService.getTodos(page, size);
+        PageResponse<TodoResponse> result = todoService.getTodos(page, size, false, TodoFilter.NONE);
 
         //then
-        assertThat(result.getSize()).isEqualTo(2);
+        assertThat(result.getContent().size()).isEqualTo(2);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("title1");
         assertThat(result.getContent().get(1).getTitle()).isEqualTo("title2");
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("slice 모드에서는 전체 개수를 세지 않고 다음 페이지 여부만 반환하는지 테스트")
+    void getTodosSlice() {
+        //given
+        TodoResponse todo = new TodoResponse(1L, "title1", "contents1", "sunny", 1L, "a@a.com", 0L, 1L, null, null);
+
+        Pageable pageable = PageRequest.of(0, 1);
+        given(todoRepository.findTodoResponses(pageable))
+                .willReturn(new SliceImpl<>(List.of(todo), pageable, true));
+
+        //when
+        PageResponse<TodoResponse> result = todoService.getTodos(1, 1, true, TodoFilter.NONE);
+
+        //then
+        assertTrue(result.isHasNext());
+        assertEquals(1, result.getPage());
+        assertNull(result.getTotalElements());
+        assertNull(result.getTotalPages());
+        verify(todoCountCache, never()).getCount();
+    }
+
+    @Test
+    @DisplayName("offset 방식 할일 목록 조회에 조건을 보내면 오류 처리 테스트")
+    void getTodosErrorFilterWithoutCursor() {
+        //given
+        TodoFilter filter = TodoFilter.of("Sunny", null, null);
+
+        //when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodos(1, 10, false, filter));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("날씨, 수정일 조건은 cursor 방식에서만 사용할 수 있습니다. cursor 파라미터를 함께 보내주세요.");
+        verify(todoRepository, never()).findTodoResponses(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("cursor 방식 할일 목록 조회 시 다음 페이지 cursor 를 반환하는지 테스트")
+    void getTodosByCursor() {
+        //given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        TodoResponse todo3 = new TodoResponse(3L, "title3", "contents3", "sunny", 1L, "a@a.com", 0L, 1L, modifiedAt, modifiedAt);
+        TodoResponse todo2 = new TodoResponse(2L, "title2", "contents2", "sunny", 1L, "a@a.com", 0L, 1L, modifiedAt, modifiedAt);
+        TodoResponse todo1 = new TodoResponse(1L, "title1", "contents1", "sunny", 1L, "a@a.com", 0L, 1L, modifiedAt, modifiedAt.minusDays(1));
+
+        given(todoRepository.findTodoResponses(TodoFilter.NONE, null, 3)).willReturn(List.of(todo3, todo2, todo1));
+        given(todoRepository.findTodoResponses(TodoFilter.NONE, new TodoCursor(modifiedAt, 2L), 3)).willReturn(List.of(todo1));
+
+        //when
+        TodoCursorResponse firstPage = todoService.getTodosByCursor("", 2, TodoFilter.NONE);
+        TodoCursorResponse secondPage = todoService.getTodosByCursor(firstPage.getNextCursor(), 2, TodoFilter.NONE);
+
+        //then
+        assertEquals(List.of(3L, 2L), firstPage.getTodos().stream().map(TodoResponse::getId).toList());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(new TodoCursor(modifiedAt, 2L), TodoCursor.decode(firstPage.getNextCursor()));
+
+        assertEquals(List.of(1L), secondPage.getTodos().stream().map(TodoResponse::getId).toList());
+        assertFalse(secondPage.isHasNext());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("cursor 값이 올바르지 않으면 오류 처리 테스트")
+    void getTodosByCursorInvalidCursor() {
+        //when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodosByCursor("not-a-cursor", 10, TodoFilter.NONE));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("잘못된 cursor 입니다.");
+    }
+
+    @Test
+    @DisplayName("날씨, 수정일 조건을 그대로 repository 에 전달하는지 테스트")
+    void getTodosByCursorWithFilter() {
+        //given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 15, 9, 0);
+        TodoResponse todo = new TodoResponse(1L, "title1", "contents1", "Sunny", 1L, "a@a.com", 0L, 1L, modifiedAt, modifiedAt);
+
+        TodoFilter filter = TodoFilter.of("Sunny", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        given(todoRepository.findTodoResponses(filter, null, 11)).willReturn(List.of(todo));
+
+        //when
+        TodoCursorResponse result = todoService.getTodosByCursor(null, 10, filter);
+
+        //then
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), filter.modifiedFrom());
+        assertEquals(LocalDateTime.of(2024, 2, 1, 0, 0), filter.modifiedBefore());
+        assertEquals(List.of(1L), result.getTodos().stream().map(TodoResponse::getId).toList());
+        assertFalse(result.isHasNext());
+    }
+
+    @Test
+    @DisplayName("검색 결과를 색인의 순위대로 반환하고 다음 페이지 cursor 를 만드는지 테스트")
+    void searchTodos() {
+        //given
+        TodoResponse todo1 = new TodoResponse(1L, "title1", "contents1", "sunny", 1L, "a@a.com", 0L, 1L, null, null);
+        TodoResponse todo2 = new TodoResponse(2L, "title2", "contents2", "sunny", 1L, "a@a.com", 0L, 1L, null, null);
+        given(todoSearchIndex.search("title", null, 3)).willReturn(new TodoSearchIndex.SearchResult(List.of(
+                new TodoSearchIndex.SearchHit(2L, 3.0),
+                new TodoSearchIndex.SearchHit(1L, 2.0),
+                new TodoSearchIndex.SearchHit(3L, 1.0)
+        ), List.of(0.5)));
+        given(todoRepository.findTodoResponsesByIds(List.of(2L, 1L))).willReturn(List.of(todo1, todo2));
+
+        //when
+        TodoCursorResponse result = todoService.searchTodos("title", null, 2);
+
+        //then
+        assertEquals(List.of(2L, 1L), result.getTodos().stream().map(TodoResponse::getId).toList());
+        assertEquals(new TodoSearchCursor(2.0, 1L, List.of(0.5)), TodoSearchCursor.decode(result.getNextCursor()));
     }
 
     @Test
@@ -106,12 +377,9 @@ class TodoServiceTest {
     void getTodo() {
         // given
         long todoId = 1L;
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "id", 1L);
-        User user = new User();
-        ReflectionTestUtils.setField(todo, "user", user);
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "sunny", 1L, "a@a.com", 0L, 1L, null, null);
 
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.findVersionedTodoResponseById(todoId)).willReturn(Optional.of(new VersionedTodoResponse(todo, null)));
 
         //when
         TodoResponse result = todoService.getTodo(todoId);
@@ -119,12 +387,33 @@ class TodoServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("캐시된 할일은 DB 를 다시 조회하지 않고, 무효화되면 다시 조회하는지 테스트")
+    void getTodoCached() {
+        // given
+        long todoId = 1L;
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "sunny", 1L, "a@a.com", 0L, 1L, null, null);
+        given(todoRepository.findVersionedTodoResponseById(todoId)).willReturn(Optional.of(new VersionedTodoResponse(todo, null)));
+
+        //when
+        todoService.getTodo(todoId);
+        TodoResponse cached = todoService.getTodo(todoId);
+        todoResponseCache.evict(todoId);
+        todoService.getTodo(todoId);
+
+        //then
+        assertThat(cached).isSameAs(todo);
+        verify(todoRepository, times(2)).findVersionedTodoResponseById(todoId);
+        assertThat(todoResponseCache.getHitCount()).isEqualTo(1);
+        assertThat(todoResponseCache.getMissCount()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("할일 조회 기능이 할일을 조회 못한 경우 오류 처리 테스트")
     void getTodoErrorNotFoundTodo() {
         //given
         long todoId = 1L;
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.empty());
+        given(todoRepository.findVersionedTodoResponseById(todoId)).willReturn(Optional.empty());
 
         //when
         InvalidRequestException invalidRequestException = assertThrows(InvalidRequestException.class, () -> todoService.getTodo(todoId));
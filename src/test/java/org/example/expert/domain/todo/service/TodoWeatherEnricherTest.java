@@ -0,0 +1,121 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    @Mock
+    private TodoResponseCache todoResponseCache;
+
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @BeforeEach
+    void setUp() {
+        todoWeatherEnricher = new TodoWeatherEnricher(todoRepository, weatherClient, todoResponseCache, 10, 10, 2,
+                Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("대기 중인 할일들의 날씨를 한 번에 채우는지 테스트")
+    void enrichPendingTodos() {
+        //given
+        todoWeatherEnricher.enqueue(1L);
+        todoWeatherEnricher.enqueue(2L);
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoRepository.updatePendingWeather(eq("Sunny"), eq(List.of(1L, 2L)), any(LocalDateTime.class))).willReturn(2);
+
+        //when
+        todoWeatherEnricher.enrichPendingTodos();
+
+        //then
+        assertThat(todoWeatherEnricher.getEnrichedCount()).isEqualTo(2);
+        assertThat(todoWeatherEnricher.getPendingCount()).isZero();
+        verify(todoResponseCache).evictAll(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("날씨 조회에 실패하면 재시도 횟수까지만 다시 대기열에 넣는지 테스트")
+    void enrichPendingTodosRetry() {
+        //given
+        todoWeatherEnricher.enqueue(1L);
+        given(weatherClient.getTodayWeather()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        //when
+        todoWeatherEnricher.enrichPendingTodos();
+        int pendingAfterFirstFailure = todoWeatherEnricher.getPendingCount();
+        todoWeatherEnricher.enrichPendingTodos();
+
+        //then
+        assertThat(pendingAfterFirstFailure).isEqualTo(1);
+        assertThat(todoWeatherEnricher.getPendingCount()).isZero();
+        assertThat(todoWeatherEnricher.getDroppedCount()).isEqualTo(1);
+        verify(todoRepository, never()).updatePendingWeather(anyString(), anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("날씨 조회에 실패하면 backoff 동안 다시 시도하지 않는지 테스트")
+    void enrichPendingTodosBackoff() {
+        //given
+        TodoWeatherEnricher enricher = new TodoWeatherEnricher(todoRepository, weatherClient, todoResponseCache, 10, 10, 5,
+                Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(1));
+        enricher.enqueue(1L);
+        given(weatherClient.getTodayWeather()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        //when
+        enricher.enrichPendingTodos();
+        enricher.enrichPendingTodos();
+        enricher.sweepPendingTodos();
+
+        //then
+        verify(weatherClient, times(1)).getTodayWeather();
+        assertThat(enricher.getPendingCount()).isEqualTo(1);
+        verify(todoRepository, never()).findPendingWeatherIds(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기열에서 빠진 할일도 DB 에서 날씨가 비어 있는 할일을 찾아 채우는지 테스트")
+    void sweepPendingTodos() {
+        //given
+        given(todoRepository.findPendingWeatherIds(any(LocalDateTime.class), any(LocalDateTime.class), eq(Limit.of(10))))
+                .willReturn(List.of(3L, 4L));
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoRepository.updatePendingWeather(eq("Sunny"), eq(List.of(3L, 4L)), any(LocalDateTime.class))).willReturn(2);
+
+        //when
+        todoWeatherEnricher.sweepPendingTodos();
+
+        //then
+        assertThat(todoWeatherEnricher.getEnrichedCount()).isEqualTo(2);
+        verify(todoResponseCache).evictAll(List.of(3L, 4L));
+    }
+}
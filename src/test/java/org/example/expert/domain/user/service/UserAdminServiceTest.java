@@ -1,5 +1,6 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
@@ -18,12 +19,16 @@ import java.util.Optional;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -44,6 +49,7 @@ class UserAdminServiceTest {
 
         //then
         assertThat(user.getUserRole()).isEqualTo(UserRole.USER);
+        verify(tokenRevocationService).revokeAllTokens(userId);
     }
 
     @Test